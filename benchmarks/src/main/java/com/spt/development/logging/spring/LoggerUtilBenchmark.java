@@ -0,0 +1,59 @@
+package com.spt.development.logging.spring;
+
+import com.spt.development.logging.spring.benchmark.BenchmarkArgs;
+import com.spt.development.logging.spring.benchmark.BenchmarkTarget;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of formatting the arguments of a logged method. Declared in the same package as {@link LoggerUtil}
+ * in order to call its package-private methods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggerUtilBenchmark {
+
+    @Param({ "0", "3", "10" })
+    private int argCount;
+
+    @Param
+    private BenchmarkArgs args;
+
+    private InvocationDescriptor descriptor;
+    private Object[] argValues;
+
+    @Setup
+    public void setUp() {
+        descriptor = InvocationDescriptor.of(
+            Arrays.stream(BenchmarkTarget.class.getMethods())
+                .filter(m -> m.getParameterCount() == argCount)
+                .findFirst()
+                .orElseThrow()
+        );
+        argValues = new Object[argCount];
+
+        Arrays.fill(argValues, args.value());
+    }
+
+    @Benchmark
+    public String formatArgs() {
+        return LoggerUtil.formatArgs(descriptor, argValues);
+    }
+}
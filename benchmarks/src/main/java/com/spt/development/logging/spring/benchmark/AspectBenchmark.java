@@ -0,0 +1,134 @@
+package com.spt.development.logging.spring.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.spt.development.logging.spring.AsyncLogOverflowPolicy;
+import com.spt.development.logging.spring.BeanLogger;
+import com.spt.development.logging.spring.RestControllerLogger;
+import com.spt.development.logging.spring.ServiceLogger;
+import com.spt.development.logging.spring.annotation.BeanLoggingPointcut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of calling a method through a Spring AOP proxy advised by each of the logging aspects, compared to
+ * calling the same method on an unproxied bean. Run with {@link BenchmarkRunner}, the bytes allocated per call are
+ * reported as <code>gc.alloc.rate.norm</code>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AspectBenchmark {
+
+    /**
+     * The way in which the benchmarked bean is logged.
+     */
+    public enum Logging {
+        UNPROXIED, SERVICE_LOGGER, SERVICE_LOGGER_ASYNC, REST_CONTROLLER_LOGGER, BEAN_LOGGER
+    }
+
+    private static final int ASYNC_BUFFER_CAPACITY = 8192;
+
+    @Param
+    private Logging logging;
+
+    @Param({ "OFF", "DEBUG", "TRACE" })
+    private String level;
+
+    @Param
+    private BenchmarkArgs args;
+
+    private BenchmarkTarget target;
+    private String arg;
+    private ServiceLogger asyncLogger;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(BenchmarkTarget.class.getPackageName())).setLevel(Level.toLevel(level));
+
+        target = createTarget();
+        arg = args.value();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (asyncLogger != null) {
+            asyncLogger.close();
+        }
+    }
+
+    private BenchmarkTarget createTarget() {
+        switch (logging) {
+            case SERVICE_LOGGER:
+                return aspectJProxy(new ServiceTarget(), new ServiceLogger());
+            case SERVICE_LOGGER_ASYNC:
+                asyncLogger = new ServiceLogger();
+                asyncLogger.setAsyncLogging(ASYNC_BUFFER_CAPACITY, AsyncLogOverflowPolicy.DROP);
+
+                return aspectJProxy(new ServiceTarget(), asyncLogger);
+            case REST_CONTROLLER_LOGGER:
+                return aspectJProxy(new RestControllerTarget(), new RestControllerLogger());
+            case BEAN_LOGGER:
+                return beanLoggerProxy(new BeanTarget());
+            default:
+                return new BeanTarget();
+        }
+    }
+
+    private static BenchmarkTarget aspectJProxy(BenchmarkTarget target, Object aspect) {
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+
+        return proxyFactory.getProxy();
+    }
+
+    private static BenchmarkTarget beanLoggerProxy(BenchmarkTarget target) {
+        final DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            new BeanLoggingPointcut(List.of(BenchmarkTarget.class), Set.of()), new BeanLogger()
+        );
+        final ProxyFactory proxyFactory = new ProxyFactory(target);
+
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(advisor);
+
+        return (BenchmarkTarget) proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public String noArgs() {
+        return target.noArgs();
+    }
+
+    @Benchmark
+    public String threeArgs() {
+        return target.threeArgs(arg, arg, arg);
+    }
+
+    @Benchmark
+    public String tenArgs() {
+        return target.tenArgs(arg, arg, arg, arg, arg, arg, arg, arg, arg, arg);
+    }
+}
@@ -0,0 +1,23 @@
+package com.spt.development.logging.spring.benchmark;
+
+/**
+ * {@link BenchmarkTarget} without a stereotype annotation, logged by {@link com.spt.development.logging.spring.BeanLogger}.
+ */
+public class BeanTarget implements BenchmarkTarget {
+
+    @Override
+    public String noArgs() {
+        return "result";
+    }
+
+    @Override
+    public String threeArgs(String arg1, String arg2, String arg3) {
+        return arg1;
+    }
+
+    @Override
+    public String tenArgs(String arg1, String arg2, String arg3, String arg4, String arg5,
+                          String arg6, String arg7, String arg8, String arg9, String arg10) {
+        return arg1;
+    }
+}
@@ -0,0 +1,20 @@
+package com.spt.development.logging.spring.benchmark;
+
+/**
+ * The length of the <code>String</code> arguments passed to the methods benchmarked.
+ */
+public enum BenchmarkArgs {
+    SHORT("4e1c9a2b"),
+    LONG("{\"id\":4,\"name\":\"Customer's order\",\n\"items\":[{\"sku\":\"A-1001\",\"qty\":2},{\"sku\":\"B-2002\",\"qty\":1}],"
+        + "\"eventTime\":\"2019-01-14T18:45:26Z\"}");
+
+    private final String value;
+
+    BenchmarkArgs(String value) {
+        this.value = value;
+    }
+
+    public String value() {
+        return value;
+    }
+}
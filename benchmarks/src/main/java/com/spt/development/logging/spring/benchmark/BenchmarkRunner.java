@@ -0,0 +1,38 @@
+package com.spt.development.logging.spring.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so that the allocation rate is reported alongside the time per
+ * operation. Accepts the standard JMH command line options, for example:
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar AspectBenchmark -p level=DEBUG
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {}
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line options.
+     *
+     * @throws CommandLineOptionException thrown if the command line options are invalid.
+     * @throws RunnerException thrown if the benchmarks fail to run.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
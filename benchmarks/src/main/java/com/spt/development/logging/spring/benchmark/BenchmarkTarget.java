@@ -0,0 +1,13 @@
+package com.spt.development.logging.spring.benchmark;
+
+/**
+ * Methods called by the benchmarks, implemented by a class for each type of bean logged by the aspects.
+ */
+public interface BenchmarkTarget {
+    String noArgs();
+
+    String threeArgs(String arg1, String arg2, String arg3);
+
+    String tenArgs(String arg1, String arg2, String arg3, String arg4, String arg5,
+                   String arg6, String arg7, String arg8, String arg9, String arg10);
+}
@@ -0,0 +1,131 @@
+package com.spt.development.logging.spring.benchmark;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.aspectj.ShadowMatchUtils;
+import org.springframework.aop.aspectj.annotation.AnnotationAwareAspectJAutoProxyCreator;
+import org.springframework.aop.config.AopConfigUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.ApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The auto proxy creator registered by <code>@EnableAspectJAutoProxy</code>, instrumented to record the number of
+ * proxies it creates, the time it spends matching the pointcuts of advisors against beans and the size of the AspectJ
+ * shadow match cache built up while doing so, which is cleared once all singletons have been instantiated.
+ */
+public class MeasuringAutoProxyCreator extends AnnotationAwareAspectJAutoProxyCreator {
+    private static final long serialVersionUID = 1L;
+
+    private boolean retainedHeapMeasured;
+    private long matchingNanos;
+    private int proxies;
+    private int shadowMatches;
+    private long shadowMatchCacheBytes;
+
+    /**
+     * Replaces the auto proxy creator registered with the bean factory with a {@link MeasuringAutoProxyCreator}. The
+     * creator cannot be registered directly, as <code>@EnableAspectJAutoProxy</code> rejects auto proxy creators that
+     * it does not know of.
+     *
+     * @param beanFactory the bean factory of the context being refreshed.
+     * @param retainedHeapMeasured whether to measure the heap retained by the shadow match cache, which requires a
+     *                             full GC and so must not be enabled when timing refreshes.
+     */
+    static void replace(ConfigurableListableBeanFactory beanFactory, boolean retainedHeapMeasured) {
+        final BeanDefinition definition = beanFactory.getBeanDefinition(AopConfigUtils.AUTO_PROXY_CREATOR_BEAN_NAME);
+
+        definition.setBeanClassName(MeasuringAutoProxyCreator.class.getName());
+        definition.getPropertyValues().add("retainedHeapMeasured", retainedHeapMeasured);
+    }
+
+    /**
+     * Gets the auto proxy creator of a refreshed context.
+     *
+     * @param context the context.
+     *
+     * @return the auto proxy creator.
+     */
+    static MeasuringAutoProxyCreator of(ApplicationContext context) {
+        return context.getBean(AopConfigUtils.AUTO_PROXY_CREATOR_BEAN_NAME, MeasuringAutoProxyCreator.class);
+    }
+
+    public void setRetainedHeapMeasured(boolean retainedHeapMeasured) {
+        this.retainedHeapMeasured = retainedHeapMeasured;
+    }
+
+    @Override
+    protected List<Advisor> findAdvisorsThatCanApply(List<Advisor> candidateAdvisors, Class<?> beanClass, String beanName) {
+        final long start = System.nanoTime();
+
+        try {
+            return super.findAdvisorsThatCanApply(candidateAdvisors, beanClass, beanName);
+        } finally {
+            matchingNanos += System.nanoTime() - start;
+        }
+    }
+
+    @Override
+    protected Object createProxy(Class<?> beanClass, String beanName, Object[] specificInterceptors, TargetSource targetSource) {
+        proxies++;
+
+        return super.createProxy(beanClass, beanName, specificInterceptors, targetSource);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        shadowMatches = shadowMatchCache().size();
+
+        if (!retainedHeapMeasured) {
+            super.afterSingletonsInstantiated();
+            return;
+        }
+        final long before = usedHeap();
+
+        // Clears the shadow match cache
+        super.afterSingletonsInstantiated();
+
+        shadowMatchCacheBytes = before - usedHeap();
+    }
+
+    private static Map<?, ?> shadowMatchCache() {
+        try {
+            final Field field = ShadowMatchUtils.class.getDeclaredField("shadowMatchCache");
+
+            field.setAccessible(true);
+
+            return (Map<?, ?>) field.get(null);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Unable to read the AspectJ shadow match cache", ex);
+        }
+    }
+
+    private static long usedHeap() {
+        // Collect twice, so that objects only reachable from finalizers or reference queues are collected too
+        System.gc();
+        System.gc();
+
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    long getMatchingNanos() {
+        return matchingNanos;
+    }
+
+    int getProxies() {
+        return proxies;
+    }
+
+    int getShadowMatches() {
+        return shadowMatches;
+    }
+
+    long getShadowMatchCacheBytes() {
+        return shadowMatchCacheBytes;
+    }
+}
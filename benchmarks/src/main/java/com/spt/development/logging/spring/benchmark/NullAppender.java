@@ -0,0 +1,27 @@
+package com.spt.development.logging.spring.benchmark;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+/**
+ * Logback appender that formats every event it receives, as a real appender would, but then discards it, so that the
+ * benchmarks measure the cost of the logging aspects rather than the cost of I/O.
+ */
+public class NullAppender extends AppenderBase<ILoggingEvent> {
+    private int formattedLength;
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        formattedLength += event.getFormattedMessage().length();
+    }
+
+    /**
+     * Gets the total length of all the messages formatted by the appender; exposed only so that the formatting of
+     * messages cannot be optimised away.
+     *
+     * @return the total length of the messages formatted.
+     */
+    public int getFormattedLength() {
+        return formattedLength;
+    }
+}
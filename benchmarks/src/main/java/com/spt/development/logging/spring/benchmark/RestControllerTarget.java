@@ -0,0 +1,27 @@
+package com.spt.development.logging.spring.benchmark;
+
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * {@link BenchmarkTarget} with the <code>org.springframework.web.bind.annotation.RestController</code> annotation, logged by
+ * {@link com.spt.development.logging.spring.RestControllerLogger}.
+ */
+@RestController
+public class RestControllerTarget implements BenchmarkTarget {
+
+    @Override
+    public String noArgs() {
+        return "result";
+    }
+
+    @Override
+    public String threeArgs(String arg1, String arg2, String arg3) {
+        return arg1;
+    }
+
+    @Override
+    public String tenArgs(String arg1, String arg2, String arg3, String arg4, String arg5,
+                          String arg6, String arg7, String arg8, String arg9, String arg10) {
+        return arg1;
+    }
+}
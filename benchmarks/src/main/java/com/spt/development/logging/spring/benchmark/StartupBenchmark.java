@@ -0,0 +1,162 @@
+package com.spt.development.logging.spring.benchmark;
+
+import com.spt.development.logging.spring.DaoSupportLogger;
+import com.spt.development.logging.spring.RepositoryLogger;
+import com.spt.development.logging.spring.RestControllerLogger;
+import com.spt.development.logging.spring.ServiceLogger;
+import com.spt.development.logging.spring.annotation.EnableBeanLogging;
+import com.spt.development.logging.spring.benchmark.synthetic.SyntheticBeans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.aop.config.AopConfigUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time taken to refresh an application context of generated beans (see {@link SyntheticBeans}), with
+ * and without each of the logging aspects registered. The time reported by JMH is the time of a single refresh; in
+ * addition, the following are printed at the end of each trial:
+ *
+ * <ul>
+ *     <li>the number of proxies created,</li>
+ *     <li>the mean time spent matching the pointcuts of advisors against beans, per refresh,</li>
+ *     <li>the number of entries in the AspectJ shadow match cache, before it was cleared at the end of the refresh,</li>
+ *     <li>the heap retained by the shadow match cache, measured with a separate refresh before the trial.</li>
+ * </ul>
+ *
+ * <p>
+ * By default the refreshes are timed in a warmed up JVM; to time a refresh in a cold JVM, as on startup, run a single
+ * refresh in each of a number of forks, for example:
+ * </p>
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar StartupBenchmark -wi 0 -i 1 -f 10 -p beans=1000
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    /**
+     * The logging aspects registered with the context.
+     */
+    public enum Loggers {
+        NONE,
+        SERVICE_LOGGER(ServiceLogger.class),
+        REPOSITORY_LOGGER(RepositoryLogger.class),
+        DAO_SUPPORT_LOGGER(DaoSupportLogger.class),
+        REST_CONTROLLER_LOGGER(RestControllerLogger.class),
+        BEAN_LOGGER(BeanLoggingConfiguration.class),
+        ALL(ServiceLogger.class, RepositoryLogger.class, DaoSupportLogger.class, RestControllerLogger.class, BeanLoggingConfiguration.class);
+
+        private final Class<?>[] componentClasses;
+
+        Loggers(Class<?>... componentClasses) {
+            this.componentClasses = componentClasses;
+        }
+
+        private void registerWith(AnnotationConfigApplicationContext context) {
+            if (componentClasses.length > 0) {
+                context.register(componentClasses);
+            }
+        }
+    }
+
+    /**
+     * Enables the logging of all the generated beans with {@link com.spt.development.logging.spring.BeanLogger}.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EnableBeanLogging(includeBasePackageClasses = SyntheticBeans.class)
+    public static class BeanLoggingConfiguration {
+    }
+
+    @Param({ "100", "1000", "10000" })
+    private int beans;
+
+    @Param
+    private Loggers loggers;
+
+    private AnnotationConfigApplicationContext context;
+    private long shadowMatchCacheBytes;
+    private int refreshes;
+    private int proxies;
+    private int shadowMatches;
+    private long matchingNanos;
+
+    @Setup(Level.Trial)
+    public void measureShadowMatchCache() {
+        try (AnnotationConfigApplicationContext measuredContext = createContext(true)) {
+            measuredContext.refresh();
+
+            shadowMatchCacheBytes = MeasuringAutoProxyCreator.of(measuredContext).getShadowMatchCacheBytes();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // Generate new classes for every refresh, so that neither they nor their proxy classes are already loaded
+        context = createContext(false);
+    }
+
+    private AnnotationConfigApplicationContext createContext(boolean retainedHeapMeasured) {
+        final AnnotationConfigApplicationContext newContext = new AnnotationConfigApplicationContext();
+
+        AopConfigUtils.registerAspectJAnnotationAutoProxyCreatorIfNecessary(newContext);
+        AopConfigUtils.forceAutoProxyCreatorToUseClassProxying(newContext);
+
+        newContext.addBeanFactoryPostProcessor(beanFactory -> MeasuringAutoProxyCreator.replace(beanFactory, retainedHeapMeasured));
+
+        loggers.registerWith(newContext);
+        SyntheticBeans.generate(beans).registerWith(newContext);
+
+        return newContext;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown(IterationParams iterationParams) {
+        if (iterationParams.getType() == IterationType.MEASUREMENT) {
+            final MeasuringAutoProxyCreator autoProxyCreator = MeasuringAutoProxyCreator.of(context);
+
+            refreshes++;
+            proxies = autoProxyCreator.getProxies();
+            shadowMatches = autoProxyCreator.getShadowMatches();
+            matchingNanos += autoProxyCreator.getMatchingNanos();
+        }
+        context.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf(
+            "%n%d beans, %s: %d proxies, %.3f ms matching pointcuts, %d shadow matches retaining %d KiB%n",
+            beans, loggers, proxies, matchingNanos / (refreshes * 1e6), shadowMatches, shadowMatchCacheBytes / 1024
+        );
+    }
+
+    @Benchmark
+    public ApplicationContext refresh() {
+        context.refresh();
+
+        return context;
+    }
+}
@@ -0,0 +1,138 @@
+package com.spt.development.logging.spring.benchmark.synthetic;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Generates the classes of the beans registered with the contexts refreshed by
+ * {@link com.spt.development.logging.spring.benchmark.StartupBenchmark}. Each bean has its own class, spread across
+ * packages of {@link #BEANS_PER_PACKAGE} beans and alternating between the kinds of bean logged by each of the logging
+ * aspects, so that pointcut matching cannot be short-circuited by caches keyed on the class or method. The classes are
+ * defined by a new class loader each time, so that the proxy classes created for them are not cached between
+ * refreshes either.
+ */
+public final class SyntheticBeans {
+    static final int BEANS_PER_PACKAGE = 10;
+    static final int METHODS_PER_BEAN = 5;
+
+    private static final String METHOD_DESCRIPTOR = "(Ljava/lang/String;)Ljava/lang/String;";
+
+    /**
+     * The kind of a generated bean, which determines which of the logging aspects log it.
+     */
+    enum Kind {
+        SERVICE(Object.class, Service.class),
+        REPOSITORY(Object.class, Repository.class),
+        REST_CONTROLLER(Object.class, RestController.class),
+        DAO_SUPPORT(SyntheticDaoSupport.class, null),
+        COMPONENT(Object.class, null);
+
+        private final Class<?> superclass;
+        private final Class<? extends Annotation> annotation;
+
+        Kind(Class<?> superclass, Class<? extends Annotation> annotation) {
+            this.superclass = superclass;
+            this.annotation = annotation;
+        }
+    }
+
+    private final ClassLoader classLoader;
+    private final List<Class<?>> classes;
+
+    private SyntheticBeans(ClassLoader classLoader, List<Class<?>> classes) {
+        this.classLoader = classLoader;
+        this.classes = classes;
+    }
+
+    /**
+     * Generates the classes of the given number of beans.
+     *
+     * @param count the number of beans to generate.
+     *
+     * @return the generated beans.
+     */
+    public static SyntheticBeans generate(int count) {
+        final SyntheticClassLoader classLoader = new SyntheticClassLoader(SyntheticBeans.class.getClassLoader());
+        final Kind[] kinds = Kind.values();
+        final List<Class<?>> classes = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            final Kind kind = kinds[i % kinds.length];
+            final String name = SyntheticBeans.class.getPackageName() + ".p" + (i / BEANS_PER_PACKAGE) + "."
+                + kind.name().charAt(0) + kind.name().substring(1).toLowerCase().replace("_", "") + i;
+
+            classes.add(classLoader.define(name, generate(name, kind)));
+        }
+        return new SyntheticBeans(classLoader, Collections.unmodifiableList(classes));
+    }
+
+    private static byte[] generate(String name, Kind kind) {
+        final String internalName = name.replace('.', '/');
+        final String superName = Type.getInternalName(kind.superclass);
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, superName, null);
+
+        if (kind.annotation != null) {
+            writer.visitAnnotation(Type.getDescriptor(kind.annotation), true).visitEnd();
+        }
+
+        final MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        for (int i = 0; i < METHODS_PER_BEAN; i++) {
+            final MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, "method" + i, METHOD_DESCRIPTOR, null, null);
+
+            method.visitCode();
+            method.visitVarInsn(Opcodes.ALOAD, 1);
+            method.visitInsn(Opcodes.ARETURN);
+            method.visitMaxs(0, 0);
+            method.visitEnd();
+        }
+        writer.visitEnd();
+
+        return writer.toByteArray();
+    }
+
+    /**
+     * Registers a singleton bean for each of the generated classes with the given context, and sets the class loader
+     * of the context to the one that defined the classes, so that their proxy classes can be loaded.
+     *
+     * @param context the context to register the beans with.
+     */
+    public void registerWith(GenericApplicationContext context) {
+        context.setClassLoader(classLoader);
+
+        for (Class<?> beanClass : classes) {
+            context.registerBean(beanClass.getName(), beanClass);
+        }
+    }
+
+    private static final class SyntheticClassLoader extends ClassLoader {
+
+        private SyntheticClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        private Class<?> define(String name, byte[] bytecode) {
+            return defineClass(name, bytecode, 0, bytecode.length);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.spt.development.logging.spring.benchmark.synthetic;
+
+import org.springframework.dao.support.DaoSupport;
+
+/**
+ * Base class of the generated beans that are logged by {@link com.spt.development.logging.spring.DaoSupportLogger}.
+ */
+public abstract class SyntheticDaoSupport extends DaoSupport {
+
+    @Override
+    protected void checkDaoConfig() {
+        // Nothing to check, the generated beans have no dependencies
+    }
+}
@@ -0,0 +1,31 @@
+package com.spt.development.logging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Annotation that can be added at the class or method level to override the threshold above which calls to all methods
+ * in the class, or the method with the annotation, respectively, are logged as slow at WARN level. Takes precedence
+ * over the threshold configured for the logging aspect.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface SlowInvocationThreshold {
+
+    /**
+     * The threshold above which method calls are logged as slow.
+     *
+     * @return the threshold, in the units specified by {@link #unit()}.
+     */
+    long value();
+
+    /**
+     * The unit of the threshold.
+     *
+     * @return the unit of the threshold, milliseconds by default.
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+}
@@ -0,0 +1,59 @@
+package com.spt.development.logging.spring;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Renders the arguments (and return values) of logged methods of a given type, in place of their
+ * <code>toString</code> method. This allows cheap renderers to be used for types with expensive or verbose
+ * <code>toString</code> implementations, for example rendering just the ID of an entity. Renderers are registered
+ * with {@link ArgumentRenderers#register(ArgumentRenderer)} or with the {@link java.util.ServiceLoader} mechanism, by
+ * listing them in <code>META-INF/services/com.spt.development.logging.spring.ArgumentRenderer</code>. Implementations
+ * must be thread-safe.
+ *
+ * @param <T> the type of value rendered.
+ */
+public interface ArgumentRenderer<T> {
+
+    /**
+     * Gets the type of value rendered. The renderer is also used for subtypes of the type, unless a renderer is
+     * registered for a more specific type.
+     *
+     * @return the type of value rendered.
+     */
+    Class<T> getType();
+
+    /**
+     * Renders a value, by appending it to the given builder.
+     *
+     * @param value the (non-<code>null</code>) value to render.
+     * @param sb the builder to append the value to.
+     */
+    void render(T value, StringBuilder sb);
+
+    /**
+     * Creates a renderer for the given type from a function, for example:
+     *
+     * <pre>
+     * ArgumentRenderer.of(Order.class, (order, sb) -&gt; sb.append("Order#").append(order.getId()))
+     * </pre>
+     *
+     * @param type the type of value rendered.
+     * @param renderer the function that appends a value to a builder.
+     * @param <T> the type of value rendered.
+     *
+     * @return the renderer.
+     */
+    static <T> ArgumentRenderer<T> of(final Class<T> type, final BiConsumer<? super T, StringBuilder> renderer) {
+        return new ArgumentRenderer<>() {
+            @Override
+            public Class<T> getType() {
+                return type;
+            }
+
+            @Override
+            public void render(T value, StringBuilder sb) {
+                renderer.accept(value, sb);
+            }
+        };
+    }
+}
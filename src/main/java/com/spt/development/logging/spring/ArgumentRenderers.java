@@ -0,0 +1,84 @@
+package com.spt.development.logging.spring;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The registry of {@link ArgumentRenderer}s used to render the arguments and return values of logged methods. The
+ * renderer for a class is resolved once, the first time a value of the class is rendered, and then cached, so that
+ * the class hierarchy is not searched on every call. The most specific renderer for a class is used; renderers
+ * registered with {@link #register(ArgumentRenderer)} or the {@link ServiceLoader} mechanism take precedence over the
+ * standard renderers for common JDK and Spring types, provided by the library.
+ */
+public final class ArgumentRenderers {
+    private static final ArgumentRenderer<Object> NO_RENDERER = ArgumentRenderer.of(Object.class, (value, sb) -> sb.append(value));
+    private static final List<ArgumentRenderer<?>> REGISTERED = new CopyOnWriteArrayList<>();
+
+    private static volatile ClassValue<ArgumentRenderer<Object>> renderers = newCache();
+
+    static {
+        for (ArgumentRenderer<?> renderer : ServiceLoader.load(ArgumentRenderer.class, ArgumentRenderers.class.getClassLoader())) {
+            REGISTERED.add(renderer);
+        }
+    }
+
+    private ArgumentRenderers() {}
+
+    /**
+     * Registers a renderer, replacing any previously registered renderer for the same type. Renderers should be
+     * registered on start up, as registering a renderer clears the renderers cached for each class.
+     *
+     * @param renderer the renderer to register.
+     */
+    public static synchronized void register(final ArgumentRenderer<?> renderer) {
+        REGISTERED.removeIf(r -> r.getType().equals(renderer.getType()));
+        REGISTERED.add(renderer);
+
+        renderers = newCache();
+    }
+
+    /**
+     * Gets the renderer to use for values of the given class.
+     *
+     * @param type the class of the value to render.
+     *
+     * @return the renderer, or <code>null</code> if there is no renderer for the class.
+     */
+    static ArgumentRenderer<Object> rendererFor(Class<?> type) {
+        final ArgumentRenderer<Object> renderer = renderers.get(type);
+
+        return renderer != NO_RENDERER ? renderer : null;
+    }
+
+    private static ClassValue<ArgumentRenderer<Object>> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected ArgumentRenderer<Object> computeValue(Class<?> type) {
+                final ArgumentRenderer<?> registered = mostSpecific(REGISTERED, type);
+                final ArgumentRenderer<?> renderer = registered != null
+                    ? registered
+                    : mostSpecific(StandardArgumentRenderers.ALL, type);
+
+                return renderer != null ? cast(renderer) : NO_RENDERER;
+            }
+        };
+    }
+
+    private static ArgumentRenderer<?> mostSpecific(List<ArgumentRenderer<?>> candidates, Class<?> type) {
+        ArgumentRenderer<?> mostSpecific = null;
+
+        for (ArgumentRenderer<?> candidate : candidates) {
+            if (candidate.getType().isAssignableFrom(type)
+                    && (mostSpecific == null || mostSpecific.getType().isAssignableFrom(candidate.getType()))) {
+                mostSpecific = candidate;
+            }
+        }
+        return mostSpecific;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentRenderer<Object> cast(ArgumentRenderer<?> renderer) {
+        return (ArgumentRenderer<Object>) renderer;
+    }
+}
@@ -0,0 +1,168 @@
+package com.spt.development.logging.spring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Outputs log statements on a background thread, so that log statements are written outside of the measured latency
+ * of the methods logged. Log statements are published to a bounded {@link LogEventRingBuffer}, which is drained by a
+ * single daemon thread; when the buffer is full, the {@link AsyncLogOverflowPolicy} determines what happens to the log
+ * statement. Once closed, log statements are output on the thread publishing them; a log statement published while
+ * the dispatcher is being closed is output by the background thread if it is still running, or otherwise by the
+ * publishing thread, so that none are lost.
+ */
+final class AsyncLogDispatcher implements AutoCloseable {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final LogEventRingBuffer<Runnable> buffer;
+    private final AsyncLogOverflowPolicy overflowPolicy;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread consumer;
+
+    private volatile boolean running = true;
+    private volatile boolean idle;
+
+    AsyncLogDispatcher(final String name, final int capacity, final AsyncLogOverflowPolicy overflowPolicy) {
+        this.buffer = new LogEventRingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.consumer = new Thread(this::consume, name);
+
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Publishes a log statement to be output on the background thread.
+     *
+     * @param event the log statement to output.
+     */
+    void publish(final Runnable event) {
+        if (!running) {
+            event.run();
+            return;
+        }
+        if (!buffer.offer(event) && !overflow(event)) {
+            return;
+        }
+        if (!running) {
+            // Closed while publishing, so the background thread may have stopped before the event was offered
+            drainStopped();
+            return;
+        }
+        if (idle) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Gets the number of log statements discarded because the buffer was full, when the
+     * {@link AsyncLogOverflowPolicy#DROP} policy is used.
+     *
+     * @return the number of log statements discarded.
+     */
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Outputs the log statements waiting in the buffer and then stops the background thread. Any log statements
+     * published after the dispatcher is closed are output on the thread publishing them.
+     */
+    @Override
+    public void close() {
+        running = false;
+
+        LockSupport.unpark(consumer);
+
+        drainStopped();
+    }
+
+    /**
+     * Waits for the background thread to stop and then outputs any log statements left in the buffer, on the calling
+     * thread; only one thread polls the buffer at a time, as the buffer requires. If the background thread does not
+     * stop in time, because an appender is blocked, it is left to output the log statements itself.
+     */
+    private synchronized void drainStopped() {
+        try {
+            consumer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!consumer.isAlive()) {
+            for (Runnable event = buffer.poll(); event != null; event = buffer.poll()) {
+                output(event);
+            }
+        }
+    }
+
+    /**
+     * Handles a log statement that could not be published because the buffer was full, according to the overflow
+     * policy.
+     *
+     * @param event the log statement to output.
+     *
+     * @return <code>true</code> if the log statement was published once space became available, otherwise
+     *     <code>false</code> if it was dropped or output on the calling thread.
+     */
+    private boolean overflow(Runnable event) {
+        switch (overflowPolicy) {
+            case DROP:
+                dropped.increment();
+                return false;
+            case BLOCK:
+                while (running) {
+                    LockSupport.parkNanos(FULL_PARK_NANOS);
+
+                    if (buffer.offer(event)) {
+                        return true;
+                    }
+                }
+                event.run();
+                return false;
+            default:
+                event.run();
+                return false;
+        }
+    }
+
+    private void consume() {
+        while (true) {
+            final Runnable event = buffer.poll();
+
+            if (event != null) {
+                output(event);
+            } else if (running) {
+                idle = true;
+
+                // Re-check the buffer, in case an event was published before the consumer was flagged as idle
+                final Runnable next = buffer.poll();
+
+                if (next != null) {
+                    idle = false;
+                    output(next);
+                } else {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    idle = false;
+                }
+            } else {
+                // Drain the events published before the dispatcher was closed, before stopping
+                for (Runnable next = buffer.poll(); next != null; next = buffer.poll()) {
+                    output(next);
+                }
+                return;
+            }
+        }
+    }
+
+    private static void output(Runnable event) {
+        try {
+            event.run();
+        } catch (RuntimeException ignored) {
+            // Logging must never stop the background thread; the appender is expected to report its own failures
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.spt.development.logging.spring;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.time.Instant;
+
+/**
+ * An immutable log statement captured on the thread calling a logged method, to be output on the background thread of
+ * an {@link AsyncLogDispatcher}. As the statement is output on a different thread, the name of the calling thread and
+ * the time the statement was captured are added to the statement as the <code>invocationThread</code> and
+ * <code>invocationTime</code> key/value pairs.
+ *
+ * <p>
+ * Message arguments are rendered to Strings by the background thread, when the statement is output, so that
+ * formatting them is not included in the latency of the method logged. The arguments of the method are captured as a
+ * snapshot of the argument array, so that arguments replaced after the statement is captured are not logged, although
+ * arguments that are themselves modified may be logged with their modified values. Uninitialized Hibernate proxies and
+ * collections are rendered as placeholders, so are never initialized by the background thread.
+ * </p>
+ */
+final class AsyncLogEvent implements Runnable {
+    static final String THREAD_KEY = "invocationThread";
+    static final String TIME_KEY = "invocationTime";
+
+    private final Logger logger;
+    private final Level level;
+    private final String format;
+    private final Object[] arguments;
+    private final Object[] keyValues;
+    private final String threadName;
+    private final long timeMillis;
+
+    AsyncLogEvent(final Logger logger, final Level level, final String format, final Object[] arguments,
+                  final Object[] keyValues) {
+        this.logger = logger;
+        this.level = level;
+        this.format = format;
+        this.arguments = snapshot(arguments);
+        this.keyValues = keyValues;
+        this.threadName = Thread.currentThread().getName();
+        this.timeMillis = System.currentTimeMillis();
+    }
+
+    @Override
+    public void run() {
+        log(
+            logger.atLevel(level)
+                .addKeyValue(THREAD_KEY, threadName)
+                .addKeyValue(TIME_KEY, Instant.ofEpochMilli(timeMillis)),
+            format, arguments, keyValues
+        );
+    }
+
+    private static Object[] snapshot(Object[] arguments) {
+        // The message arguments are created for each log statement, so only the method arguments they refer to are copied
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] instanceof FormattedArguments) {
+                arguments[i] = ((FormattedArguments) arguments[i]).snapshot();
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * Outputs a log statement with the SLF4J fluent API, on the current thread.
+     *
+     * @param builder the builder of the log statement, created by the logger to output it with.
+     * @param format the message format.
+     * @param arguments the message arguments.
+     * @param keyValues the key/value pairs to add to the log statement, alternately, or <code>null</code> for none.
+     */
+    static void log(LoggingEventBuilder builder, String format, Object[] arguments, Object[] keyValues) {
+        builder.setMessage(format);
+
+        if (keyValues != null) {
+            for (int i = 0; i + 1 < keyValues.length; i += 2) {
+                builder.addKeyValue((String) keyValues[i], keyValues[i + 1]);
+            }
+        }
+
+        // As with the Logger methods, a trailing Throwable argument is the cause rather than a message argument
+        final Throwable cause = MessageFormatter.getThrowableCandidate(arguments);
+        final int argumentCount = cause != null ? arguments.length - 1 : arguments.length;
+
+        for (int i = 0; i < argumentCount; i++) {
+            builder.addArgument(arguments[i]);
+        }
+        if (cause != null) {
+            builder.setCause(cause);
+        }
+        builder.log();
+    }
+}
@@ -0,0 +1,23 @@
+package com.spt.development.logging.spring;
+
+/**
+ * Determines what happens to a log statement when asynchronous logging is enabled and the buffer of log statements
+ * waiting to be output is full; see the <code>setAsyncLogging</code> method of the logging aspects.
+ */
+public enum AsyncLogOverflowPolicy {
+    /**
+     * Discards the log statement and increments the count of dropped log statements.
+     */
+    DROP,
+
+    /**
+     * Waits for space in the buffer, blocking the thread calling the logged method.
+     */
+    BLOCK,
+
+    /**
+     * Outputs the log statement on the thread calling the logged method, as if asynchronous logging was disabled.
+     * Log statements output this way may appear before log statements still waiting in the buffer.
+     */
+    SYNCHRONOUS
+}
@@ -1,12 +1,14 @@
 package com.spt.development.logging.spring;
 
 import com.spt.development.logging.spring.invocation.MethodInvocationAdapter;
+import com.spt.development.logging.spring.metrics.InvocationMetricsSink;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
 /**
- * Logs calls to methods. Intended to be combined with {@link org.springframework.aop.aspectj.AspectJExpressionPointcutAdvisor}
- * to add logging to the public methods of arbitrary Spring beans.
+ * Logs calls to methods. Intended to be combined with a {@link org.springframework.aop.PointcutAdvisor}, such as the
+ * advisor created by {@link com.spt.development.logging.spring.annotation.BeanLoggerConfiguration}, to add logging to the
+ * methods of arbitrary Spring beans.
  */
 public class BeanLogger extends InvocationLogger implements MethodInterceptor {
 
@@ -25,7 +27,20 @@ public class BeanLogger extends InvocationLogger implements MethodInterceptor {
      *                                   in the log statements added by the interceptor.
      */
     public BeanLogger(final boolean includeCorrelationIdInLogs) {
-        super(includeCorrelationIdInLogs);
+        this(includeCorrelationIdInLogs, null);
+    }
+
+    /**
+     * Creates a new instance of the logger method interceptor, that also reports the outcome of every method call to the given
+     * metrics sink.
+     *
+     * @param includeCorrelationIdInLogs a flag to determine whether the correlation ID should be explicitly included
+     *                                   in the log statements added by the interceptor.
+     * @param metricsSink the sink to report the outcome of method calls to, or <code>null</code> to not report
+     *                    metrics.
+     */
+    public BeanLogger(final boolean includeCorrelationIdInLogs, final InvocationMetricsSink metricsSink) {
+        super(includeCorrelationIdInLogs, metricsSink);
     }
 
     /**
@@ -36,7 +51,7 @@ public class BeanLogger extends InvocationLogger implements MethodInterceptor {
      * <pre>
      * [40872057-a1b6-4fdd-bce1-7882929bbce6] MyBean.read(4)
      * ...
-     * [40872057-a1b6-4fdd-bce1-7882929bbce6] MyBean.read Returned: MyEntity(id=4, name=test)
+     * [40872057-a1b6-4fdd-bce1-7882929bbce6] MyBean.read Returned: MyEntity(id=4, name=test) in 0.153ms
      * </pre>
      *
      * @param invocation the method invocation required for implementing a {@link MethodInterceptor}.
@@ -0,0 +1,230 @@
+package com.spt.development.logging.spring;
+
+import com.spt.development.cid.CorrelationId;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Limits the number of exceptions logged per method and exception class, within a window of time. Once the limit is
+ * reached, further exceptions are counted rather than logged and once the window has ended, a single summary of the
+ * exceptions suppressed is passed to a {@link SummaryLogger} and the next window started. Windows are checked when the
+ * next exception occurs and by a daemon thread once a second, so that the summary of the last window of a storm is
+ * not lost, until the limiter is closed. The daemon thread also removes the windows that have ended without any
+ * exceptions being logged or suppressed within them, so that only the methods and exception classes that have failed
+ * recently are tracked. Each summary carries the correlation ID of the last exception suppressed within the window,
+ * rather than that of the thread passing it to the {@link SummaryLogger}.
+ */
+final class ExceptionLogRateLimiter implements AutoCloseable {
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long CLOSE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final int maxLoggedPerWindow;
+    private final long windowNanos;
+    private final long windowSeconds;
+    private final SummaryLogger summaryLogger;
+    private final Map<InvocationDescriptor, Map<Class<?>, Window>> windows = new ConcurrentHashMap<>();
+    private final Thread flusher;
+
+    private volatile boolean running = true;
+
+    ExceptionLogRateLimiter(final String name, final int maxLoggedPerWindow, final Duration window, final SummaryLogger summaryLogger) {
+        if (maxLoggedPerWindow < 0) {
+            throw new IllegalArgumentException("Maximum exceptions logged per window must not be negative, but was " + maxLoggedPerWindow);
+        }
+        if (window.toSeconds() < 1) {
+            throw new IllegalArgumentException("Window must be at least one second, but was " + window);
+        }
+        this.maxLoggedPerWindow = maxLoggedPerWindow;
+        this.windowNanos = window.toNanos();
+        this.windowSeconds = window.toSeconds();
+        this.summaryLogger = summaryLogger;
+        this.flusher = new Thread(this::flushUntilClosed, name);
+
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Determines whether the exception thrown by a call to the given method should be logged. If the previous window
+     * for the method and exception class has ended and exceptions were suppressed within it, a summary of the
+     * suppressed exceptions is logged first.
+     *
+     * @param descriptor the descriptor of the method that threw the exception.
+     * @param type the class of the exception thrown.
+     * @param nowNanos the current value of {@link System#nanoTime()}.
+     *
+     * @return <code>true</code> if the exception should be logged, otherwise <code>false</code>.
+     */
+    boolean isLogged(final InvocationDescriptor descriptor, final Class<?> type, final long nowNanos) {
+        final Window window = window(descriptor, type, nowNanos);
+
+        rollIfEnded(descriptor, type, window, nowNanos);
+
+        // Check before incrementing, so that threads do not contend on the logged count during a storm
+        if (window.logged.get() < maxLoggedPerWindow && window.logged.incrementAndGet() <= maxLoggedPerWindow) {
+            return true;
+        }
+        // Set before counting, so that any summary including the count also sees a correlation ID
+        window.correlationId = CorrelationId.get();
+        window.suppressed.increment();
+
+        return false;
+    }
+
+    /**
+     * Logs the summaries of the exceptions suppressed within all the windows that have ended and removes the windows
+     * that have ended without any exceptions being logged or suppressed within them.
+     *
+     * @param nowNanos the current value of {@link System#nanoTime()}.
+     */
+    void flush(final long nowNanos) {
+        windows.forEach((descriptor, windowsByType) -> {
+            windowsByType.forEach((type, window) -> {
+                if (isIdle(window, nowNanos)) {
+                    remove(descriptor, windowsByType, type, window);
+                } else {
+                    rollIfEnded(descriptor, type, window, nowNanos);
+                }
+            });
+            // Removed under the lock of the entry, which windows are added to the map under, so no window can be lost
+            windows.computeIfPresent(descriptor, (d, w) -> w.isEmpty() ? null : w);
+        });
+    }
+
+    /**
+     * Gets the number of windows currently tracked, one per method and exception class.
+     *
+     * @return the number of windows.
+     */
+    int size() {
+        return windows.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Stops the background thread and logs the summaries of the exceptions suppressed within the current windows,
+     * whether or not they have ended.
+     */
+    @Override
+    public void close() {
+        running = false;
+
+        LockSupport.unpark(flusher);
+
+        try {
+            flusher.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final long nowNanos = System.nanoTime();
+
+        windows.forEach((descriptor, windowsByType) -> windowsByType.forEach((type, window) -> {
+            final long suppressed = window.suppressed.sumThenReset();
+
+            if (suppressed > 0) {
+                final long seconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(nowNanos - window.startNanos.get()));
+
+                summaryLogger.logSuppressed(descriptor, type, suppressed, seconds, window.correlationId);
+            }
+        }));
+    }
+
+    private boolean isIdle(Window window, long nowNanos) {
+        return nowNanos - window.startNanos.get() >= windowNanos && window.logged.get() == 0 && window.suppressed.sum() == 0;
+    }
+
+    private void remove(InvocationDescriptor descriptor, Map<Class<?>, Window> windowsByType, Class<?> type, Window window) {
+        if (windowsByType.remove(type, window)) {
+            // Exceptions counted by calls that got the window just before it was removed are still reported
+            final long suppressed = window.suppressed.sumThenReset();
+
+            if (suppressed > 0) {
+                summaryLogger.logSuppressed(descriptor, type, suppressed, windowSeconds, window.correlationId);
+            }
+        }
+    }
+
+    private void rollIfEnded(InvocationDescriptor descriptor, Class<?> type, Window window, long nowNanos) {
+        final long startNanos = window.startNanos.get();
+
+        if (nowNanos - startNanos >= windowNanos && window.startNanos.compareAndSet(startNanos, nowNanos)) {
+            final long suppressed = window.suppressed.sumThenReset();
+
+            window.logged.set(0);
+
+            if (suppressed > 0) {
+                summaryLogger.logSuppressed(descriptor, type, suppressed, windowSeconds, window.correlationId);
+            }
+        }
+    }
+
+    private void flushUntilClosed() {
+        while (running) {
+            LockSupport.parkNanos(this, FLUSH_INTERVAL_NANOS);
+
+            if (running) {
+                try {
+                    flush(System.nanoTime());
+                } catch (RuntimeException ignored) {
+                    // Logging must never stop the background thread; the appender is expected to report its own failures
+                }
+            }
+        }
+    }
+
+    private Window window(final InvocationDescriptor descriptor, final Class<?> type, final long nowNanos) {
+        final Map<Class<?>, Window> windowsByType = windows.get(descriptor);
+        final Window window = windowsByType != null ? windowsByType.get(type) : null;
+
+        if (window != null) {
+            return window;
+        }
+        // Added under the lock of the entry, so that the map of windows is not removed by a concurrent flush first
+        final Window[] added = new Window[1];
+
+        windows.compute(descriptor, (d, w) -> {
+            final Map<Class<?>, Window> byType = w != null ? w : new ConcurrentHashMap<>();
+
+            added[0] = byType.computeIfAbsent(type, t -> new Window(nowNanos));
+
+            return byType;
+        });
+        return added[0];
+    }
+
+    /**
+     * Logs the summary of the exceptions suppressed within a window.
+     */
+    @FunctionalInterface
+    interface SummaryLogger {
+
+        /**
+         * Logs the number of exceptions of the given class, thrown by the given method, that were suppressed.
+         *
+         * @param descriptor the descriptor of the method that threw the exceptions.
+         * @param type the class of the exceptions.
+         * @param suppressed the number of exceptions suppressed.
+         * @param seconds the length of the window the exceptions were suppressed within, in seconds.
+         * @param correlationId the correlation ID of the last call whose exception was suppressed.
+         */
+        void logSuppressed(InvocationDescriptor descriptor, Class<?> type, long suppressed, long seconds, String correlationId);
+    }
+
+    private static final class Window {
+        private final AtomicLong startNanos;
+        private final AtomicInteger logged = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+        private volatile String correlationId;
+
+        private Window(final long startNanos) {
+            this.startNanos = new AtomicLong(startNanos);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.spt.development.logging.spring;
+
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+
+/**
+ * The arguments of a logged method, formatted with {@link LoggerUtil#formatArgs(InvocationDescriptor, Object[])} when
+ * converted to a String, so that the arguments are only formatted if, and when, the log statement they are included
+ * in is output. For example, when a log statement is discarded by a Logback filter, or is output by a background
+ * thread when logging asynchronously.
+ */
+final class FormattedArguments {
+    private final InvocationDescriptor descriptor;
+    private final Object[] args;
+
+    FormattedArguments(final InvocationDescriptor descriptor, final Object[] args) {
+        this.descriptor = descriptor;
+        this.args = args;
+    }
+
+    /**
+     * Creates a copy of these arguments that is not affected by the arguments of the method being replaced, for
+     * formatting on another thread.
+     *
+     * @return a copy of these arguments.
+     */
+    FormattedArguments snapshot() {
+        return new FormattedArguments(descriptor, args.clone());
+    }
+
+    @Override
+    public String toString() {
+        return LoggerUtil.formatArgs(descriptor, args);
+    }
+}
@@ -0,0 +1,18 @@
+package com.spt.development.logging.spring;
+
+/**
+ * A duration in nanoseconds, formatted with {@link LoggerUtil#formatElapsed(long)} when converted to a String, so that
+ * the duration is only formatted if, and when, the log statement it is included in is output.
+ */
+final class FormattedElapsed {
+    private final long nanos;
+
+    FormattedElapsed(final long nanos) {
+        this.nanos = nanos;
+    }
+
+    @Override
+    public String toString() {
+        return LoggerUtil.formatElapsed(nanos);
+    }
+}
@@ -0,0 +1,19 @@
+package com.spt.development.logging.spring;
+
+/**
+ * A value returned by a logged method, formatted with {@link LoggerUtil#formatValue(Object)} when converted to a
+ * String, so that the value is only formatted if, and when, the log statement it is included in is output, and large
+ * collections, arrays and maps are not rendered in full.
+ */
+final class FormattedValue {
+    private final Object value;
+
+    FormattedValue(final Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return LoggerUtil.formatValue(value);
+    }
+}
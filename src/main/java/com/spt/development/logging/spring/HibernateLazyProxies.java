@@ -0,0 +1,128 @@
+package com.spt.development.logging.spring;
+
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Detects uninitialized Hibernate entity proxies and lazy collections, so that they can be rendered as placeholders,
+ * such as <code>Order#42(uninitialized)</code> or <code>Order.items(uninitialized)</code>, rather than with their
+ * <code>toString</code> methods, which would initialize them from the database. Hibernate is not a dependency of the
+ * library, so its types are accessed with reflection and only when present on the classpath. Whether a class is a
+ * proxy or collection is resolved once per class and cached.
+ */
+final class HibernateLazyProxies {
+    static final String PROXY_CLASS_NAME = "org.hibernate.proxy.HibernateProxy";
+    static final String COLLECTION_CLASS_NAME = "org.hibernate.collection.spi.PersistentCollection";
+
+    static final HibernateLazyProxies INSTANCE = create(HibernateLazyProxies.class.getClassLoader());
+
+    private static final String UNINITIALIZED = "(uninitialized)";
+
+    private enum Kind { PROXY, COLLECTION, OTHER }
+
+    private final Method getHibernateLazyInitializer;
+    private final Method isUninitialized;
+    private final Method getEntityName;
+    private final Method getIdentifier;
+    private final Method wasInitialized;
+    private final Method getRole;
+    private final ClassValue<Kind> kinds;
+
+    HibernateLazyProxies(final Class<?> proxyType, final Class<?> collectionType) throws NoSuchMethodException {
+        this.getHibernateLazyInitializer = proxyType.getMethod("getHibernateLazyInitializer");
+
+        final Class<?> lazyInitializerType = getHibernateLazyInitializer.getReturnType();
+
+        this.isUninitialized = lazyInitializerType.getMethod("isUninitialized");
+        this.getEntityName = lazyInitializerType.getMethod("getEntityName");
+        this.getIdentifier = lazyInitializerType.getMethod("getIdentifier");
+        this.wasInitialized = collectionType.getMethod("wasInitialized");
+        this.getRole = collectionType.getMethod("getRole");
+        this.kinds = new ClassValue<>() {
+            @Override
+            protected Kind computeValue(Class<?> type) {
+                if (proxyType.isAssignableFrom(type)) {
+                    return Kind.PROXY;
+                }
+                return collectionType.isAssignableFrom(type) ? Kind.COLLECTION : Kind.OTHER;
+            }
+        };
+    }
+
+    private static HibernateLazyProxies create(ClassLoader classLoader) {
+        if (!ClassUtils.isPresent(PROXY_CLASS_NAME, classLoader) || !ClassUtils.isPresent(COLLECTION_CLASS_NAME, classLoader)) {
+            return null;
+        }
+
+        try {
+            return new HibernateLazyProxies(
+                ClassUtils.forName(PROXY_CLASS_NAME, classLoader), ClassUtils.forName(COLLECTION_CLASS_NAME, classLoader)
+            );
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            // An unsupported version of Hibernate, so lazy proxies are rendered like any other value
+            return null;
+        }
+    }
+
+    /**
+     * Appends a placeholder for the given value to the builder, if it is an uninitialized entity proxy or lazy
+     * collection, without initializing it.
+     *
+     * @param sb the builder to append the placeholder to.
+     * @param value the (non-<code>null</code>) value to render.
+     *
+     * @return <code>true</code> if a placeholder was appended, otherwise <code>false</code> if the value is not an
+     *         uninitialized proxy or collection and should be rendered as normal.
+     */
+    boolean appendIfUninitialized(StringBuilder sb, Object value) {
+        final Kind kind = kinds.get(value.getClass());
+
+        if (kind == Kind.OTHER) {
+            return false;
+        }
+
+        try {
+            if (kind == Kind.PROXY) {
+                final Object lazyInitializer = getHibernateLazyInitializer.invoke(value);
+
+                if (!(Boolean) isUninitialized.invoke(lazyInitializer)) {
+                    return false;
+                }
+                sb.append(unqualified((String) getEntityName.invoke(lazyInitializer), 1))
+                    .append('#').append(getIdentifier.invoke(lazyInitializer))
+                    .append(UNINITIALIZED);
+
+                return true;
+            }
+
+            if ((Boolean) wasInitialized.invoke(value)) {
+                return false;
+            }
+            final String role = (String) getRole.invoke(value);
+
+            sb.append(role != null ? unqualified(role, 2) : value.getClass().getSimpleName()).append(UNINITIALIZED);
+
+            return true;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            // Render a placeholder anyway, as rendering the value as normal may initialize it
+            sb.append(value.getClass().getSimpleName()).append(UNINITIALIZED);
+
+            return true;
+        }
+    }
+
+    /**
+     * Gets the last <code>segments</code> segments of a fully qualified name, for example <code>Order.items</code>
+     * from <code>com.example.Order.items</code>.
+     */
+    private static String unqualified(String name, int segments) {
+        int start = name.length();
+
+        for (int i = 0; i < segments && start > 0; i++) {
+            start = name.lastIndexOf('.', start - 1);
+        }
+        return name.substring(start + 1);
+    }
+}
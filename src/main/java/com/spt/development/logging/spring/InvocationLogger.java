@@ -1,88 +1,768 @@
 package com.spt.development.logging.spring;
 
 import com.spt.development.cid.CorrelationId;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
 import com.spt.development.logging.spring.invocation.LoggedInvocation;
-import org.slf4j.LoggerFactory;
+import com.spt.development.logging.spring.invocation.LoggingSwitchboard;
+import com.spt.development.logging.spring.metrics.InvocationMetricsSink;
 import org.slf4j.event.Level;
+import org.springframework.util.ClassUtils;
 
-import java.lang.reflect.Method;
-import java.util.function.BiConsumer;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
 
-import static com.spt.development.logging.spring.LoggerUtil.formatArgs;
+abstract class InvocationLogger implements AutoCloseable {
+    static final String SLOW_INVOCATION_THRESHOLD_PROPERTY = "spt.logging.slow-invocation-threshold-ms";
+    static final String CORRELATION_ID_KEY = "correlationId";
+    static final String CLASS_KEY = "class";
+    static final String METHOD_KEY = "method";
+    static final String ARGUMENTS_KEY = "arguments";
+    static final String DURATION_KEY = "durationMs";
+    static final String OUTCOME_KEY = "outcome";
+    static final String EXCEPTION_KEY = "exception";
+    static final String SUPPRESSED_KEY = "suppressed";
+    static final String ELEMENTS_KEY = "elements";
+    static final String SUCCESS = "SUCCESS";
+    static final String FAILURE = "FAILURE";
+    static final String CANCELLED = "CANCELLED";
 
-abstract class InvocationLogger {
+    private static final boolean REACTOR_PRESENT = ClassUtils.isPresent(
+        "reactor.core.publisher.Flux", InvocationLogger.class.getClassLoader()
+    );
+    private static final InvocationMetricsSink NO_METRICS = new InvocationMetricsSink() { };
+    private static final String START_FORMAT = "{}({})";
+    private static final String COMPLETE_FORMAT = "{} - complete in {}ms";
+    private static final String RETURNED_FORMAT = "{} Returned: {} in {}ms";
+    private static final String SUMMARY_COMPLETE_FORMAT = "{}({}) - complete in {}ms";
+    private static final String SUMMARY_RETURNED_FORMAT = "{}({}) Returned: {} in {}ms";
+    private static final String EMITTED_FORMAT = "{} - complete, emitted {} elements in {}ms";
+    private static final String SUMMARY_EMITTED_FORMAT = "{}({}) - complete, emitted {} elements in {}ms";
+    private static final int SAMPLE_RATE_PRECISION = 3;
+    private static final double SAMPLE_RATE_TOLERANCE = 1e-9;
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private static final int DESCRIPTOR_KEY_VALUES_LENGTH = 4;
+    private static final long DEFAULT_SLOW_INVOCATION_THRESHOLD_NANOS = Duration.ofMillis(
+        Long.getLong(SLOW_INVOCATION_THRESHOLD_PROPERTY, -1L)
+    ).toNanos();
 
     private final boolean includeCorrelationIdInLogs;
     private final boolean isStartAndCompleteMethodLoggedAtInfo;
+    private final InvocationMetricsSink metricsSink;
+    private final Map<String, String> correlationIdFormats = new ConcurrentHashMap<>();
 
-    InvocationLogger(final boolean includeCorrelationIdInLogs) {
-        this(includeCorrelationIdInLogs, false);
+    private LoggingSwitchboard switchboard;
+    private long slowInvocationThresholdNanos = DEFAULT_SLOW_INVOCATION_THRESHOLD_NANOS;
+    private double sampleRate = 1.0;
+    private String startFormat = START_FORMAT;
+    private String completeFormat = COMPLETE_FORMAT;
+    private String returnedFormat = RETURNED_FORMAT;
+    private String summaryCompleteFormat = SUMMARY_COMPLETE_FORMAT;
+    private String summaryReturnedFormat = SUMMARY_RETURNED_FORMAT;
+    private String emittedFormat = EMITTED_FORMAT;
+    private String summaryEmittedFormat = SUMMARY_EMITTED_FORMAT;
+    private AsyncLogDispatcher asyncLogDispatcher;
+    private boolean structuredLogging;
+    private boolean summaryLogging;
+
+    InvocationLogger(final boolean includeCorrelationIdInLogs, final InvocationMetricsSink metricsSink) {
+        this(includeCorrelationIdInLogs, false, metricsSink);
     }
 
-    InvocationLogger(final boolean includeCorrelationIdInLogs, final boolean isStartAndCompleteMethodLoggedAtInfo) {
+    InvocationLogger(final boolean includeCorrelationIdInLogs, final boolean isStartAndCompleteMethodLoggedAtInfo,
+                     final InvocationMetricsSink metricsSink) {
         this.includeCorrelationIdInLogs = includeCorrelationIdInLogs;
         this.isStartAndCompleteMethodLoggedAtInfo = isStartAndCompleteMethodLoggedAtInfo;
+        this.metricsSink = metricsSink != null ? metricsSink : NO_METRICS;
+    }
+
+    /**
+     * Sets the threshold above which method calls are logged at WARN level, along with the time taken and the
+     * arguments of the method; calls that complete within the threshold are not logged at WARN. This allows slow
+     * calls to be logged without enabling DEBUG (or INFO) level logging for every call. The arguments are only
+     * formatted if the threshold is exceeded.
+     *
+     * <p>The threshold can also be set globally, with the <code>spt.logging.slow-invocation-threshold-ms</code> system
+     * property, and overridden for individual classes or methods with the
+     * {@link com.spt.development.logging.SlowInvocationThreshold} annotation. Must be set before the logger is
+     * used.</p>
+     *
+     * @param threshold the threshold above which method calls are logged as slow, or <code>null</code> to use the
+     *                  global threshold (if any).
+     */
+    public void setSlowInvocationThreshold(final Duration threshold) {
+        this.slowInvocationThresholdNanos = threshold != null ? threshold.toNanos() : DEFAULT_SLOW_INVOCATION_THRESHOLD_NANOS;
+    }
+
+    /**
+     * Sets the proportion of method calls for which the start and completion of the call are logged, for example
+     * <code>0.001</code> to log 0.1% of calls. The decision to log a call is made once per call, so either both the
+     * start and the completion of a call are logged or neither are; the log statements of sampled calls include the
+     * sample rate, so that the total number of calls can be extrapolated. Exceptions and slow invocations are always
+     * logged, regardless of the sample rate. Must be set before the logger is used.
+     *
+     * @param sampleRate the proportion of calls to log, greater than <code>0</code> and at most <code>1</code> (the
+     *                   default) to log every call.
+     */
+    public void setSampleRate(final double sampleRate) {
+        if (!(sampleRate > 0.0 && sampleRate <= 1.0)) {
+            throw new IllegalArgumentException("Sample rate must be greater than 0 and no more than 1, but was " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+
+        final String suffix = sampleRate < 1.0 ? " [sample rate " + sampleRateLabel(sampleRate) + "]" : "";
+
+        this.startFormat = START_FORMAT + suffix;
+        this.completeFormat = COMPLETE_FORMAT + suffix;
+        this.returnedFormat = RETURNED_FORMAT + suffix;
+        this.summaryCompleteFormat = SUMMARY_COMPLETE_FORMAT + suffix;
+        this.summaryReturnedFormat = SUMMARY_RETURNED_FORMAT + suffix;
+        this.emittedFormat = EMITTED_FORMAT + suffix;
+        this.summaryEmittedFormat = SUMMARY_EMITTED_FORMAT + suffix;
+    }
+
+    /**
+     * Sets the sample rate to log the start and completion of one in every <code>n</code> method calls (on average);
+     * see {@link #setSampleRate(double)}.
+     *
+     * @param n the (average) number of calls for each call logged.
+     */
+    public void setSampleOneIn(final int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("Must sample one in at least one call, but was one in " + n);
+        }
+        setSampleRate(1.0 / n);
+    }
+
+    /**
+     * Enables asynchronous logging of the start and completion of method calls. The log statements are captured on the
+     * thread calling the method and published to a bounded buffer, which is drained by a background thread that
+     * formats and outputs them, so that formatting the arguments of methods and outputting log statements is not
+     * included in the latency of the methods logged. WARN and ERROR level log statements are always output
+     * synchronously. Must be set before the logger is used.
+     *
+     * <p>The arguments of methods are formatted on the background thread, from a snapshot of the argument array
+     * taken when the log statement is captured, so arguments that are modified (rather than replaced) after the method
+     * is called may be logged with their modified values. Uninitialized Hibernate proxies and collections are logged
+     * as placeholders, so are never initialized by the background thread. Log statements at levels that are not
+     * enabled are not published. The background thread is stopped and any log statements waiting in the buffer are
+     * output, when the logger is {@link #close() closed}; log statements are then output synchronously.</p>
+     *
+     * @param bufferCapacity the maximum number of log statements waiting to be output, rounded up to a power of two.
+     * @param overflowPolicy what to do with log statements when the buffer is full.
+     */
+    public void setAsyncLogging(final int bufferCapacity, final AsyncLogOverflowPolicy overflowPolicy) {
+        if (asyncLogDispatcher != null) {
+            asyncLogDispatcher.close();
+        }
+        this.asyncLogDispatcher = new AsyncLogDispatcher(
+            getClass().getSimpleName() + "-async", bufferCapacity, overflowPolicy
+        );
+    }
+
+    /**
+     * Enables structured logging, in which the details of method calls are added to log statements as key/value pairs,
+     * so that they can be output directly by structured (for example JSON) encoders, rather than being extracted
+     * from the message. The following keys are used, where applicable:
+     *
+     * <ul>
+     *     <li><code>correlationId</code> - the current correlation ID, instead of prefixing the message with it.</li>
+     *     <li><code>class</code> - the fully qualified name of the class declaring the method.</li>
+     *     <li><code>method</code> - the name of the method.</li>
+     *     <li><code>arguments</code> - the formatted arguments of the method.</li>
+     *     <li><code>durationMs</code> - the time taken for the method to complete, in milliseconds.</li>
+     *     <li><code>outcome</code> - <code>SUCCESS</code> or <code>FAILURE</code>.</li>
+     *     <li><code>exception</code> - the class of the exception thrown by the method.</li>
+     *     <li><code>elements</code> - the number of elements emitted by a Reactor <code>Flux</code> returned by the
+     *     method.</li>
+     *     <li><code>suppressed</code> - the number of exceptions not logged, in the summaries of exceptions suppressed
+     *     by <code>RestControllerLogger.setExceptionLogRateLimit</code>.</li>
+     * </ul>
+     *
+     * <p>Must be set before the logger is used.</p>
+     *
+     * @param structuredLogging <code>true</code> to add the details of method calls as key/value pairs.
+     */
+    public void setStructuredLogging(final boolean structuredLogging) {
+        this.structuredLogging = structuredLogging;
+    }
+
+    /**
+     * Enables summary logging, in which a single log statement is output when a method call completes, including the
+     * arguments of the method, the outcome of the call and the time taken, rather than one log statement when the
+     * method is called and another when it returns. For example:
+     *
+     * <pre>
+     * MyService.read('id') - complete in 1.042ms
+     * </pre>
+     *
+     * <p>The arguments are captured by reference when the method is called and formatted when the log statement is
+     * output, so arguments that are modified by the method are logged with their modified values. If TRACE level
+     * logging is enabled, the value returned by the method is also included. Where the logger logs the exceptions
+     * thrown by methods, as {@link RestControllerLogger} does, the arguments are included in the exception log statement
+     * instead of outputting a separate summary log statement. Must be set before the logger is used.</p>
+     *
+     * @param summaryLogging <code>true</code> to output a single log statement per method call.
+     */
+    public void setSummaryLogging(final boolean summaryLogging) {
+        this.summaryLogging = summaryLogging;
+    }
+
+    /**
+     * Sets the switchboard used to switch the logging of calls on and off at runtime, by aspect type, package, class
+     * or method. Calls switched off are not intercepted by the logger at all, so are neither logged nor timed. Must be
+     * set before the logger is used.
+     *
+     * @param switchboard the switchboard, shared by all the loggers it controls.
+     */
+    public void setSwitchboard(final LoggingSwitchboard switchboard) {
+        this.switchboard = switchboard;
+    }
+
+    /**
+     * Gets the number of log statements discarded because asynchronous logging is enabled with the
+     * {@link AsyncLogOverflowPolicy#DROP} policy and the buffer of log statements waiting to be output was full.
+     *
+     * @return the number of log statements discarded.
+     */
+    public long getDroppedLogCount() {
+        return asyncLogDispatcher != null ? asyncLogDispatcher.getDroppedCount() : 0L;
+    }
+
+    boolean isMetricsRecorded() {
+        return metricsSink != NO_METRICS;
+    }
+
+    /**
+     * Outputs any log statements waiting to be output, if asynchronous logging is enabled, and stops the background
+     * thread that outputs them. Called automatically when the logger is defined as a Spring bean and the application
+     * context is closed.
+     */
+    @Override
+    public void close() {
+        if (asyncLogDispatcher != null) {
+            asyncLogDispatcher.close();
+        }
+    }
+
+    private static String sampleRateLabel(double sampleRate) {
+        final double oneIn = 1.0 / sampleRate;
+
+        if (Math.abs(oneIn - Math.rint(oneIn)) < SAMPLE_RATE_TOLERANCE) {
+            return "1/" + Math.round(oneIn);
+        }
+        return BigDecimal.valueOf(sampleRate)
+            .multiply(ONE_HUNDRED)
+            .round(new MathContext(SAMPLE_RATE_PRECISION))
+            .stripTrailingZeros()
+            .toPlainString() + "%";
     }
 
     Object log(final LoggedInvocation invocation) throws Throwable {
-        final Method method = invocation.getMethod();
-        final org.slf4j.Logger log = LoggerFactory.getLogger(invocation.getDeclaringClass());
+        final InvocationDescriptor descriptor = InvocationDescriptor.of(invocation.getMethod());
+
+        if (switchboard != null && !switchboard.isEnabled(getClass(), descriptor)) {
+            return invocation.proceed();
+        }
+        final org.slf4j.Logger log = descriptor.getLogger();
+        final boolean sampled = isSampled();
+
+        if (sampled && !summaryLogging && log.isEnabledForLevel(startAndCompleteMethodLevel())) {
+            logStart(descriptor, invocation.getArgs());
+        }
+
+        metricsSink.onStart(descriptor);
+
+        final long startTime = System.nanoTime();
+        final Object result;
+
+        try {
+            result = invocation.proceed();
+        } catch (Throwable t) {
+            failed(invocation, descriptor, t, System.nanoTime() - startTime);
+
+            throw t;
+        }
 
-        if (log.isEnabledForLevel(isStartAndCompleteMethodLoggedAtInfo ? Level.INFO : Level.DEBUG)) {
-            startAndCompleteMethodLogger().accept(
-                log, "{}.{}({})", invocation.getDeclaringClass().getSimpleName(), method.getName(),
-                formatArgs(method.getParameterAnnotations(), invocation.getArgs()));
+        if (result != null && isDeferredResult(result)) {
+            // The work of the method is done later, possibly on another thread, so complete the invocation when it is
+            return decorateDeferredResult(result, new PendingInvocation(this, invocation, descriptor, startTime, sampled));
         }
-        return proceed(invocation, log);
+        succeeded(invocation, descriptor, result, System.nanoTime() - startTime, sampled);
+
+        return result;
+    }
+
+    /**
+     * Determines whether the result of a method completes after the method returns, in which case the completion of
+     * the method call is logged when the result completes; see
+     * {@link #decorateDeferredResult(Object, PendingInvocation)}.
+     *
+     * @param result the (non-<code>null</code>) result returned by the method.
+     *
+     * @return <code>true</code> if the result completes after the method returns, otherwise <code>false</code>.
+     */
+    boolean isDeferredResult(Object result) {
+        return result instanceof CompletionStage || (REACTOR_PRESENT && ReactiveResults.isReactive(result));
     }
 
-    Object proceed(LoggedInvocation invocation, org.slf4j.Logger log) throws Throwable {
-        final Object result = invocation.proceed();
+    /**
+     * Decorates a result that completes after the method returns, so that the pending invocation is completed when
+     * the result completes.
+     *
+     * @param result the result returned by the method.
+     * @param pending the pending invocation to complete when the result completes.
+     *
+     * @return the result to return to the caller of the method.
+     */
+    Object decorateDeferredResult(Object result, PendingInvocation pending) {
+        if (result instanceof CompletionStage) {
+            // Add a callback rather than returning the dependent stage, so that cancelling the result still cancels it
+            ((CompletionStage<?>) result).whenComplete(pending::complete);
 
-        if (log.isTraceEnabled()) {
-            final Method method = invocation.getMethod();
+            return result;
+        }
+        // The method has only assembled the reactive pipeline, so the result completes when the pipeline does
+        return ReactiveResults.decorate(result, pending);
+    }
 
-            if (!method.getReturnType().equals(void.class)) {
-                trace(log, "{}.{} Returned: {}", invocation.getDeclaringClass().getSimpleName(), method.getName(), result);
+    void succeeded(LoggedInvocation invocation, InvocationDescriptor descriptor, Object result, long elapsedNanos, boolean sampled) {
+        descriptor.recordLatency(elapsedNanos);
+        metricsSink.onSuccess(descriptor, elapsedNanos);
 
-                return result;
+        if (sampled) {
+            if (summaryLogging) {
+                logSummary(descriptor, invocation.getArgs(), result, elapsedNanos);
+            } else {
+                logCompletion(descriptor, result, elapsedNanos);
             }
         }
+        logIfSlow(invocation, descriptor, elapsedNanos);
+    }
+
+    /**
+     * Completes a call to a method whose result emitted a number of elements, such as a Reactor <code>Flux</code>,
+     * logging the number of elements emitted, rather than the result, at the level that the completion of calls is
+     * logged at.
+     */
+    void emitted(LoggedInvocation invocation, InvocationDescriptor descriptor, long elements, long elapsedNanos, boolean sampled) {
+        final org.slf4j.Logger log = descriptor.getLogger();
+
+        descriptor.recordLatency(elapsedNanos);
+        metricsSink.onElements(descriptor, elements);
+        metricsSink.onSuccess(descriptor, elapsedNanos);
+
+        if (sampled && log.isEnabledForLevel(startAndCompleteMethodLevel())) {
+            final Object[] keyValues = structuredLogging
+                ? keyValues(descriptor, DURATION_KEY, durationMillis(elapsedNanos), OUTCOME_KEY, SUCCESS, ELEMENTS_KEY, elements)
+                : null;
+
+            if (summaryLogging) {
+                final Object arguments = summaryArguments(descriptor, invocation.getArgs());
+
+                log(
+                    log, startAndCompleteMethodLevel(), summaryKeyValues(keyValues, arguments),
+                    summaryEmittedFormat, descriptor.getDisplayName(), arguments, elements, new FormattedElapsed(elapsedNanos)
+                );
+            } else {
+                logInvocation(
+                    log, startAndCompleteMethodLevel(), keyValues,
+                    emittedFormat, messageArguments(descriptor.getDisplayName(), elements, new FormattedElapsed(elapsedNanos))
+                );
+            }
+        }
+        logIfSlow(invocation, descriptor, elapsedNanos);
+    }
+
+    void failed(LoggedInvocation invocation, InvocationDescriptor descriptor, Throwable t, long elapsedNanos) {
+        descriptor.recordLatency(elapsedNanos);
+        metricsSink.onFailure(descriptor, elapsedNanos, t);
+
+        final boolean failureLogged = logFailure(descriptor, invocation.getArgs(), t, elapsedNanos);
+
+        if (!failureLogged && summaryLogging && descriptor.getLogger().isEnabledForLevel(startAndCompleteMethodLevel())) {
+            // Logged regardless of sampling, as the start of the call was not logged for the exception to be related to
+            final Object arguments = summaryArguments(descriptor, invocation.getArgs());
+
+            log(
+                descriptor.getLogger(), startAndCompleteMethodLevel(),
+                summaryKeyValues(failureKeyValues(descriptor, t, elapsedNanos), arguments),
+                "{}({}) - threw {} in {}ms", descriptor.getDisplayName(), arguments, t.getClass().getName(),
+                new FormattedElapsed(elapsedNanos)
+            );
+        }
+        logIfSlow(invocation, descriptor, elapsedNanos);
+    }
+
+    void cancelled(LoggedInvocation invocation, InvocationDescriptor descriptor, long elapsedNanos, boolean sampled) {
+        final org.slf4j.Logger log = descriptor.getLogger();
+
+        descriptor.recordLatency(elapsedNanos);
+        metricsSink.onCancel(descriptor, elapsedNanos);
+
+        if (sampled && log.isEnabledForLevel(startAndCompleteMethodLevel())) {
+            final Object[] keyValues = structuredLogging
+                ? keyValues(descriptor, DURATION_KEY, durationMillis(elapsedNanos), OUTCOME_KEY, CANCELLED)
+                : null;
+
+            if (summaryLogging) {
+                final Object arguments = summaryArguments(descriptor, invocation.getArgs());
+
+                log(
+                    log, startAndCompleteMethodLevel(), summaryKeyValues(keyValues, arguments),
+                    "{}({}) - cancelled after {}ms", descriptor.getDisplayName(), arguments, new FormattedElapsed(elapsedNanos)
+                );
+            } else {
+                log(
+                    log, startAndCompleteMethodLevel(), keyValues,
+                    "{} - cancelled after {}ms", descriptor.getDisplayName(), new FormattedElapsed(elapsedNanos)
+                );
+            }
+        }
+        logIfSlow(invocation, descriptor, elapsedNanos);
+    }
+
+    void logCompletion(InvocationDescriptor descriptor, Object result, long elapsedNanos) {
+        final org.slf4j.Logger log = descriptor.getLogger();
+
+        if (isReturnValueLogged(descriptor)) {
+            logInvocation(
+                log, Level.TRACE, successKeyValues(descriptor, elapsedNanos),
+                returnedFormat, messageArguments(descriptor.getDisplayName(), new FormattedValue(result), new FormattedElapsed(elapsedNanos))
+            );
+            return;
+        }
+
+        if (log.isEnabledForLevel(startAndCompleteMethodLevel())) {
+            logInvocation(
+                log, startAndCompleteMethodLevel(), successKeyValues(descriptor, elapsedNanos),
+                completeFormat, messageArguments(descriptor.getDisplayName(), new FormattedElapsed(elapsedNanos))
+            );
+        }
+    }
+
+    private void logSummary(InvocationDescriptor descriptor, Object[] args, Object result, long elapsedNanos) {
+        final org.slf4j.Logger log = descriptor.getLogger();
+
+        if (isReturnValueLogged(descriptor)) {
+            final Object arguments = summaryArguments(descriptor, args);
+
+            log(
+                log, Level.TRACE, summaryKeyValues(successKeyValues(descriptor, elapsedNanos), arguments),
+                summaryReturnedFormat, descriptor.getDisplayName(), arguments, new FormattedValue(result),
+                new FormattedElapsed(elapsedNanos)
+            );
+            return;
+        }
 
-        startAndCompleteMethodLogger().accept(
-            log, "{}.{} - complete",
-            invocation.getDeclaringClass().getSimpleName(),
-            invocation.getMethod().getName()
+        if (log.isEnabledForLevel(startAndCompleteMethodLevel())) {
+            final Object arguments = summaryArguments(descriptor, args);
+
+            logInvocation(
+                log, startAndCompleteMethodLevel(), summaryKeyValues(successKeyValues(descriptor, elapsedNanos), arguments),
+                summaryCompleteFormat, messageArguments(descriptor.getDisplayName(), arguments, new FormattedElapsed(elapsedNanos))
+            );
+        }
+    }
+
+    /**
+     * Determines whether the value returned by a call to the given method is included in the log statement output
+     * when the call completes.
+     *
+     * @param descriptor the descriptor of the method called.
+     *
+     * @return <code>true</code> if the value returned is logged, otherwise <code>false</code>.
+     */
+    boolean isReturnValueLogged(InvocationDescriptor descriptor) {
+        return descriptor.getLogger().isTraceEnabled() && !descriptor.isVoidReturnType();
+    }
+
+    /**
+     * Logs the failure of a call to the given method. When summary logging is enabled, a logger that logs failures
+     * includes the arguments of the call (see {@link #failureArguments(InvocationDescriptor, Object[])}), as no other
+     * log statement is output for the call.
+     *
+     * @param descriptor the descriptor of the method called.
+     * @param args the arguments of the method.
+     * @param t the exception thrown by the method.
+     * @param elapsedNanos the duration of the call.
+     *
+     * @return <code>true</code> if the failure has been dealt with, either logged or deliberately suppressed, in which
+     *         case no summary log statement is output for the call, otherwise <code>false</code>.
+     */
+    boolean logFailure(InvocationDescriptor descriptor, Object[] args, Throwable t, long elapsedNanos) {
+        // Exceptions are not logged by default, as they are expected to be logged by the caller
+        return false;
+    }
+
+    /**
+     * Gets the arguments of a method to include in the log statement about a failed call to it, which is the only log
+     * statement output for the call when summary logging is enabled.
+     *
+     * @param descriptor the descriptor of the method called.
+     * @param args the arguments of the method.
+     *
+     * @return the arguments to include in the log statement, or <code>null</code> if summary logging is disabled.
+     */
+    Object failureArguments(InvocationDescriptor descriptor, Object[] args) {
+        return summaryLogging ? summaryArguments(descriptor, args) : null;
+    }
+
+    /**
+     * Creates the key/value pairs to add to a log statement about a call to the given method, when structured logging
+     * is enabled.
+     *
+     * @param descriptor the descriptor of the method called.
+     * @param keyValues additional keys and values, alternately.
+     *
+     * @return the keys and values, alternately.
+     */
+    private static Object[] keyValues(InvocationDescriptor descriptor, Object... keyValues) {
+        final Object[] allKeyValues = new Object[keyValues.length + DESCRIPTOR_KEY_VALUES_LENGTH];
+
+        allKeyValues[0] = CLASS_KEY;
+        allKeyValues[1] = descriptor.getMethod().getDeclaringClass().getName();
+        allKeyValues[2] = METHOD_KEY;
+        allKeyValues[3] = descriptor.getMethod().getName();
+
+        System.arraycopy(keyValues, 0, allKeyValues, DESCRIPTOR_KEY_VALUES_LENGTH, keyValues.length);
+
+        return allKeyValues;
+    }
+
+    Object[] successKeyValues(InvocationDescriptor descriptor, long elapsedNanos) {
+        return structuredLogging ? keyValues(descriptor, DURATION_KEY, durationMillis(elapsedNanos), OUTCOME_KEY, SUCCESS) : null;
+    }
+
+    Object[] failureKeyValues(InvocationDescriptor descriptor, Throwable t, long elapsedNanos) {
+        return structuredLogging
+            ? keyValues(descriptor, DURATION_KEY, durationMillis(elapsedNanos), OUTCOME_KEY, FAILURE, EXCEPTION_KEY, t.getClass().getName())
+            : null;
+    }
+
+    Object[] failureKeyValues(InvocationDescriptor descriptor, Throwable t, long elapsedNanos, Object arguments) {
+        final Object[] keyValues = failureKeyValues(descriptor, t, elapsedNanos);
+
+        return arguments != null ? summaryKeyValues(keyValues, arguments) : keyValues;
+    }
+
+    Object[] suppressedKeyValues(InvocationDescriptor descriptor, Class<?> type, long suppressed) {
+        return structuredLogging ? keyValues(descriptor, OUTCOME_KEY, FAILURE, EXCEPTION_KEY, type.getName(), SUPPRESSED_KEY, suppressed) : null;
+    }
+
+    /**
+     * Gets the arguments of a method to include in a summary log statement. When structured logging is enabled, the
+     * arguments are formatted up front, as they are included in both the message and the key/value pairs; otherwise
+     * they are formatted when the log statement is output.
+     *
+     * @param descriptor the descriptor of the method called.
+     * @param args the arguments of the method.
+     *
+     * @return the arguments to include in the log statement.
+     */
+    private Object summaryArguments(InvocationDescriptor descriptor, Object[] args) {
+        return structuredLogging ? LoggerUtil.formatArgs(descriptor, args) : new FormattedArguments(descriptor, args);
+    }
+
+    private static Object[] summaryKeyValues(Object[] keyValues, Object arguments) {
+        if (keyValues == null) {
+            return null;
+        }
+        final Object[] allKeyValues = new Object[keyValues.length + 2];
+
+        System.arraycopy(keyValues, 0, allKeyValues, 0, keyValues.length);
+
+        allKeyValues[keyValues.length] = ARGUMENTS_KEY;
+        allKeyValues[keyValues.length + 1] = arguments;
+
+        return allKeyValues;
+    }
+
+    private static double durationMillis(long elapsedNanos) {
+        return elapsedNanos / NANOS_PER_MILLI;
+    }
+
+    private void logStart(InvocationDescriptor descriptor, Object[] args) {
+        if (structuredLogging) {
+            // Format the arguments once, as they are included in both the message and the key/value pairs
+            final String formattedArgs = LoggerUtil.formatArgs(descriptor, args);
+
+            logInvocation(
+                descriptor.getLogger(), startAndCompleteMethodLevel(), keyValues(descriptor, ARGUMENTS_KEY, formattedArgs),
+                startFormat, messageArguments(descriptor.getDisplayName(), formattedArgs)
+            );
+            return;
+        }
+        logInvocation(
+            descriptor.getLogger(), startAndCompleteMethodLevel(), null,
+            startFormat, messageArguments(descriptor.getDisplayName(), new FormattedArguments(descriptor, args))
         );
-        return result;
     }
 
-    private LoggerConsumer startAndCompleteMethodLogger() {
-        return isStartAndCompleteMethodLoggedAtInfo ? this::info : this::debug;
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void logIfSlow(LoggedInvocation invocation, InvocationDescriptor descriptor, long elapsedNanos) {
+        final long thresholdNanos = descriptor.getSlowInvocationThresholdNanos() >= 0
+            ? descriptor.getSlowInvocationThresholdNanos()
+            : slowInvocationThresholdNanos;
+
+        if (thresholdNanos >= 0 && elapsedNanos > thresholdNanos && descriptor.getLogger().isWarnEnabled()) {
+            log(
+                descriptor.getLogger(), Level.WARN,
+                structuredLogging ? keyValues(descriptor, DURATION_KEY, durationMillis(elapsedNanos)) : null,
+                "{}({}) - slow invocation, complete in {}ms, exceeding threshold of {}ms",
+                descriptor.getDisplayName(), new FormattedArguments(descriptor, invocation.getArgs()),
+                new FormattedElapsed(elapsedNanos), new FormattedElapsed(thresholdNanos)
+            );
+        }
+    }
+
+    private Level startAndCompleteMethodLevel() {
+        return isStartAndCompleteMethodLoggedAtInfo ? Level.INFO : Level.DEBUG;
     }
 
     void trace(org.slf4j.Logger logger, String format, Object... arguments) {
-        log(logger::trace, format, arguments);
+        log(logger, Level.TRACE, null, format, arguments);
     }
 
     void debug(org.slf4j.Logger logger, String format, Object... arguments) {
-        log(logger::debug, format, arguments);
+        log(logger, Level.DEBUG, null, format, arguments);
     }
 
     void info(org.slf4j.Logger logger, String format, Object... arguments) {
-        log(logger::info, format, arguments);
+        log(logger, Level.INFO, null, format, arguments);
+    }
+
+    void warn(org.slf4j.Logger logger, String format, Object... arguments) {
+        log(logger, Level.WARN, null, format, arguments);
     }
 
     void error(org.slf4j.Logger logger, String format, Object... arguments) {
-        log(logger::error, format, arguments);
+        log(logger, Level.ERROR, null, format, arguments);
+    }
+
+    /**
+     * Outputs a log statement, adding the current correlation ID if configured to. If structured logging is enabled,
+     * the correlation ID and the given key/value pairs are added to the log statement as key/value pairs, otherwise
+     * the correlation ID is prefixed to the message.
+     *
+     * @param logger the logger to output the log statement with.
+     * @param level the level to log at.
+     * @param keyValues the key/value pairs to add to the log statement, alternately, or <code>null</code> for none.
+     * @param format the message format.
+     * @param arguments the message arguments.
+     */
+    void log(org.slf4j.Logger logger, Level level, Object[] keyValues, String format, Object... arguments) {
+        if (structuredLogging) {
+            logStructured(logger, level, keyValues, format, arguments);
+            return;
+        }
+        logMessage(logger, level, format, includeCorrelationIdInLogs ? addCorrelationIdToArguments(arguments) : arguments);
+    }
+
+    /**
+     * Outputs a log statement about a method call, as {@link #log(org.slf4j.Logger, Level, Object[], String, Object...)}
+     * does, but with message arguments created by {@link #messageArguments(Object, Object)} (or
+     * {@link #messageArguments(Object, Object, Object)}), so that the array of arguments is created once, rather than
+     * the varargs array being copied to add the correlation ID, as the start and completion of every method call is
+     * logged this way.
+     */
+    private void logInvocation(org.slf4j.Logger logger, Level level, Object[] keyValues, String format, Object[] messageArguments) {
+        if (structuredLogging) {
+            logStructured(logger, level, keyValues, format, messageArguments);
+            return;
+        }
+        logMessage(logger, level, format, messageArguments);
+    }
+
+    private Object[] messageArguments(Object arg1, Object arg2) {
+        return isCorrelationIdPrefixed() ? new Object[] { CorrelationId.get(), arg1, arg2 } : new Object[] { arg1, arg2 };
+    }
+
+    private Object[] messageArguments(Object arg1, Object arg2, Object arg3) {
+        return isCorrelationIdPrefixed() ? new Object[] { CorrelationId.get(), arg1, arg2, arg3 } : new Object[] { arg1, arg2, arg3 };
+    }
+
+    private boolean isCorrelationIdPrefixed() {
+        return includeCorrelationIdInLogs && !structuredLogging;
+    }
+
+    private void logStructured(org.slf4j.Logger logger, Level level, Object[] keyValues, String format, Object[] arguments) {
+        final Object[] allKeyValues = includeCorrelationIdInLogs ? addCorrelationIdToKeyValues(keyValues) : keyValues;
+
+        if (asyncLogDispatcher != null && level.toInt() < Level.WARN.toInt()) {
+            publish(logger, level, format, arguments, allKeyValues);
+            return;
+        }
+        AsyncLogEvent.log(logger.atLevel(level), format, arguments, allKeyValues);
+    }
+
+    private void publish(org.slf4j.Logger logger, Level level, String format, Object[] arguments, Object[] keyValues) {
+        // Checked before publishing, so that statements that would never be output don't take up space in the buffer
+        if (logger.isEnabledForLevel(level)) {
+            asyncLogDispatcher.publish(new AsyncLogEvent(logger, level, format, arguments, keyValues));
+        }
     }
 
-    private void log(BiConsumer<String, Object[]> log, String format, Object[] arguments) {
-        if (includeCorrelationIdInLogs) {
-            log.accept("[{}] " + format, addCorrelationIdToArguments(arguments));
+    /**
+     * Outputs a log statement, prefixing the message with the correlation ID if configured to.
+     *
+     * @param logger the logger to output the log statement with.
+     * @param level the level to log at.
+     * @param format the message format, without the correlation ID.
+     * @param messageArguments the message arguments, starting with the correlation ID if it is included.
+     */
+    private void logMessage(org.slf4j.Logger logger, Level level, String format, Object[] messageArguments) {
+        final String message = includeCorrelationIdInLogs ? correlationIdFormat(format) : format;
+
+        if (asyncLogDispatcher != null && level.toInt() < Level.WARN.toInt()) {
+            publish(logger, level, message, messageArguments, null);
             return;
         }
-        log.accept(format, arguments);
+
+        switch (level) {
+            case TRACE:
+                logger.trace(message, messageArguments);
+                break;
+            case DEBUG:
+                logger.debug(message, messageArguments);
+                break;
+            case INFO:
+                logger.info(message, messageArguments);
+                break;
+            case WARN:
+                logger.warn(message, messageArguments);
+                break;
+            default:
+                logger.error(message, messageArguments);
+        }
+    }
+
+    private String correlationIdFormat(String format) {
+        final String correlationIdFormat = correlationIdFormats.get(format);
+
+        // The formats logged with are constants, so the number of formats cached is bounded
+        return correlationIdFormat != null ? correlationIdFormat : correlationIdFormats.computeIfAbsent(format, f -> "[{}] " + f);
+    }
+
+    private static Object[] addCorrelationIdToKeyValues(Object[] keyValues) {
+        final int length = keyValues != null ? keyValues.length : 0;
+        final Object[] newKeyValues = new Object[length + 2];
+
+        newKeyValues[0] = CORRELATION_ID_KEY;
+        newKeyValues[1] = CorrelationId.get();
+
+        if (keyValues != null) {
+            System.arraycopy(keyValues, 0, newKeyValues, 2, length);
+        }
+        return newKeyValues;
     }
 
     private Object[] addCorrelationIdToArguments(Object[] arguments) {
@@ -93,9 +773,4 @@ abstract class InvocationLogger {
 
         return newArguments;
     }
-
-    @FunctionalInterface
-    public interface LoggerConsumer {
-        void accept(org.slf4j.Logger log, String format, Object... arguments);
-    }
 }
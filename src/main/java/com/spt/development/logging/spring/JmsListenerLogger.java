@@ -1,10 +1,10 @@
 package com.spt.development.logging.spring;
 
-import com.spt.development.logging.spring.invocation.LoggedInvocation;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import com.spt.development.logging.spring.metrics.InvocationMetricsSink;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.slf4j.Logger;
 import org.springframework.core.annotation.Order;
 
 /**
@@ -29,7 +29,20 @@ public class JmsListenerLogger extends LoggerAspect {
      *                                   in the log statements added by the aspect.
      */
     public JmsListenerLogger(final boolean includeCorrelationIdInLogs) {
-        super(includeCorrelationIdInLogs, true);
+        this(includeCorrelationIdInLogs, null);
+    }
+
+    /**
+     * Creates a new instance of the logger aspect, that also reports the outcome of every method call to the given
+     * metrics sink.
+     *
+     * @param includeCorrelationIdInLogs a flag to determine whether the correlation ID should be explicitly included
+     *                                   in the log statements added by the aspect.
+     * @param metricsSink the sink to report the outcome of method calls to, or <code>null</code> to not report
+     *                    metrics.
+     */
+    public JmsListenerLogger(final boolean includeCorrelationIdInLogs, final InvocationMetricsSink metricsSink) {
+        super(includeCorrelationIdInLogs, true, metricsSink);
     }
 
     /**
@@ -40,7 +53,7 @@ public class JmsListenerLogger extends LoggerAspect {
      * <pre>
      * [40872057-a1b6-4fdd-bce1-7882929bbce6] MyListener.onMsg('40872057-a1b6-4fdd-bce1-7882929bbce6', '{"id":4,"eventTime":"2019-01-14T18:45:26Z"}')
      * ...
-     * [40872057-a1b6-4fdd-bce1-7882929bbce6] MyListener.onMsg - complete
+     * [40872057-a1b6-4fdd-bce1-7882929bbce6] MyListener.onMsg - complete in 12.034ms
      * </pre>
      *
      * @param point the aspect join point required for implementing a {@link Around} aspect.
@@ -56,11 +69,7 @@ public class JmsListenerLogger extends LoggerAspect {
     }
 
     @Override
-    Object proceed(LoggedInvocation invocation, Logger log) throws Throwable {
-        final Object result = invocation.proceed();
-
-        info(log, "{}.{} - complete", invocation.getDeclaringClass().getSimpleName(), invocation.getMethod().getName());
-
-        return result;
+    boolean isReturnValueLogged(InvocationDescriptor descriptor) {
+        return false;
     }
 }
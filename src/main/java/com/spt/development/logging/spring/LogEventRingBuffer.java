@@ -0,0 +1,86 @@
+package com.spt.development.logging.spring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free ring buffer, that can be offered elements by any number of threads, but must only be polled by
+ * a single thread. Each slot has a sequence number, which producers claim by incrementing the tail of the buffer, so
+ * that producers never wait for each other or for the consumer.
+ *
+ * @param <E> the type of elements held in the buffer.
+ */
+final class LogEventRingBuffer<E> {
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    private long head;
+
+    LogEventRingBuffer(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least one, but was " + capacity);
+        }
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element to the buffer, if the buffer is not full.
+     *
+     * @param element the element to add.
+     *
+     * @return <code>true</code> if the element was added, otherwise <code>false</code> if the buffer is full.
+     */
+    boolean offer(final E element) {
+        long position = tail.get();
+
+        while (true) {
+            final int index = (int) (position & mask);
+            final long available = sequences.get(index) - position;
+
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    sequences.set(index, position + 1);
+
+                    return true;
+                }
+                position = tail.get();
+            } else if (available < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element from the buffer. Must only be called from the consumer thread.
+     *
+     * @return the oldest element, or <code>null</code> if the buffer is empty.
+     */
+    E poll() {
+        final int index = (int) (head & mask);
+
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        final E element = elements.get(index);
+
+        elements.set(index, null);
+        sequences.set(index, head + mask + 1);
+        head++;
+
+        return element;
+    }
+}
@@ -0,0 +1,65 @@
+package com.spt.development.logging.spring;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Tracks the exceptions whose full details, including stack trace, have recently been logged on the current thread,
+ * so that when an exception propagates through several logged methods, its stack trace is only logged once. The
+ * exceptions are weakly referenced and only the most recent few are tracked per thread, so that tracking them does
+ * not leak memory.
+ *
+ * <p>
+ * Only {@link RestControllerLogger} logs stack traces, so this only applies to exceptions propagating through nested
+ * controller calls. Exceptions are matched by identity, so an exception wrapped in another is logged again.
+ * </p>
+ */
+final class LoggedExceptions {
+    private static final int CAPACITY = 4;
+    private static final ThreadLocal<LoggedExceptions> LOGGED = ThreadLocal.withInitial(LoggedExceptions::new);
+
+    private final LoggedException[] exceptions = new LoggedException[CAPACITY];
+    private int next;
+
+    private LoggedExceptions() {
+    }
+
+    /**
+     * Gets the name of the method that logged the full details of the given exception, if they have been logged on
+     * the current thread.
+     *
+     * @param t the exception to check.
+     *
+     * @return the display name of the method that logged the exception, or <code>null</code> if it has not been
+     *     logged.
+     */
+    static String loggedBy(final Throwable t) {
+        for (LoggedException exception : LOGGED.get().exceptions) {
+            if (exception != null && exception.get() == t) {
+                return exception.loggedBy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records that the full details of the given exception have been logged on the current thread.
+     *
+     * @param t the exception logged.
+     * @param loggedBy the display name of the method that logged the exception.
+     */
+    static void logged(final Throwable t, final String loggedBy) {
+        final LoggedExceptions logged = LOGGED.get();
+
+        logged.exceptions[logged.next] = new LoggedException(t, loggedBy);
+        logged.next = (logged.next + 1) % CAPACITY;
+    }
+
+    private static final class LoggedException extends WeakReference<Throwable> {
+        private final String loggedBy;
+
+        private LoggedException(final Throwable t, final String loggedBy) {
+            super(t);
+            this.loggedBy = loggedBy;
+        }
+    }
+}
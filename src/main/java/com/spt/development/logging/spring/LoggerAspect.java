@@ -1,18 +1,20 @@
 package com.spt.development.logging.spring;
 
 import com.spt.development.logging.spring.invocation.ProceedingJoinPointAdapter;
+import com.spt.development.logging.spring.metrics.InvocationMetricsSink;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Pointcut;
 
 import static com.spt.development.logging.spring.LoggerUtil.LOGGING_DISABLED_POINTCUT_EXPRESSION;
 
 abstract class LoggerAspect extends InvocationLogger {
-    LoggerAspect(final boolean includeCorrelationIdInLogs) {
-        this(includeCorrelationIdInLogs, false);
+    LoggerAspect(final boolean includeCorrelationIdInLogs, final InvocationMetricsSink metricsSink) {
+        this(includeCorrelationIdInLogs, false, metricsSink);
     }
 
-    LoggerAspect(final boolean includeCorrelationIdInLogs, final boolean isStartAndCompleteMethodLoggedAtInfo) {
-        super(includeCorrelationIdInLogs, isStartAndCompleteMethodLoggedAtInfo);
+    LoggerAspect(final boolean includeCorrelationIdInLogs, final boolean isStartAndCompleteMethodLoggedAtInfo,
+                 final InvocationMetricsSink metricsSink) {
+        super(includeCorrelationIdInLogs, isStartAndCompleteMethodLoggedAtInfo, metricsSink);
     }
 
     @Pointcut(LOGGING_DISABLED_POINTCUT_EXPRESSION)
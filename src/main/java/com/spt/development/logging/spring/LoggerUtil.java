@@ -1,9 +1,14 @@
 package com.spt.development.logging.spring;
 
 import com.spt.development.logging.NoLogging;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
 
 public final class LoggerUtil {
     public static final String LOGGING_DISABLED_POINTCUT_EXPRESSION =
@@ -15,19 +20,122 @@ public final class LoggerUtil {
     static final int MAX_DEBUG_STR_ARG_LEN = 75;
     static final int ELLIPSIS_LENGTH = ELLIPSIS.length();
 
+    private static final long NANOS_PER_MICRO = 1_000L;
+    private static final long MICROS_PER_MILLI = 1_000L;
+    private static final int RADIX = 10;
+    private static final ThreadLocal<ReusableStringBuilder> BUILDERS = ThreadLocal.withInitial(ReusableStringBuilder::new);
+
     private LoggerUtil() {}
 
+    static String formatArgs(InvocationDescriptor descriptor, Object[] args) {
+        return formatArgs(descriptor, args, RenderLimits.DEFAULT);
+    }
+
+    static String formatArgs(InvocationDescriptor descriptor, Object[] args, RenderLimits limits) {
+        final ReusableStringBuilder builder = BUILDERS.get();
+        final StringBuilder sb = builder.acquire();
+
+        try {
+            final int parameterCount = descriptor.getParameterCount();
+
+            for (int i = 0; i < parameterCount; i++) {
+                if (descriptor.isParameterNotLogged(i)) {
+                    sb.append(MASKED_ARG);
+                } else {
+                    appendArg(sb, args[i], limits);
+                }
+
+                if (truncate(sb, 0, limits.getMaxArgumentsLength())) {
+                    break;
+                }
+
+                if (i < parameterCount - 1) {
+                    sb.append(", ");
+                }
+            }
+            return sb.toString();
+        } finally {
+            builder.release(sb);
+        }
+    }
+
     static String formatArgs(Annotation[][] annotations, Object[] args) {
-        final StringBuilder sb = new StringBuilder();
+        return formatArgs(annotations, args, RenderLimits.DEFAULT);
+    }
 
-        for (int i = 0; i < annotations.length; i++) {
-            sb.append(isNotToBeLogged(annotations[i]) ? MASKED_ARG : strValueOf(args[i]));
+    static String formatArgs(Annotation[][] annotations, Object[] args, RenderLimits limits) {
+        final ReusableStringBuilder builder = BUILDERS.get();
+        final StringBuilder sb = builder.acquire();
 
-            if (i < annotations.length - 1) {
-                sb.append(", ");
+        try {
+            for (int i = 0; i < annotations.length; i++) {
+                if (isNotToBeLogged(annotations[i])) {
+                    sb.append(MASKED_ARG);
+                } else {
+                    appendArg(sb, args[i], limits);
+                }
+
+                if (truncate(sb, 0, limits.getMaxArgumentsLength())) {
+                    break;
+                }
+
+                if (i < annotations.length - 1) {
+                    sb.append(", ");
+                }
             }
+            return sb.toString();
+        } finally {
+            builder.release(sb);
+        }
+    }
+
+    static String formatValue(Object value) {
+        return formatValue(value, RenderLimits.DEFAULT);
+    }
+
+    /**
+     * Formats the value returned by a logged method, within the given limits. Unlike arguments, a String value is not
+     * quoted or sanitised, only truncated.
+     */
+    static String formatValue(Object value, RenderLimits limits) {
+        if (value instanceof String) {
+            final String str = (String) value;
+
+            return str.length() > limits.getMaxArgumentLength()
+                ? str.substring(0, limits.getMaxArgumentLength() - ELLIPSIS_LENGTH) + ELLIPSIS
+                : str;
+        }
+        final ReusableStringBuilder builder = BUILDERS.get();
+        final StringBuilder sb = builder.acquire();
+
+        try {
+            appendArg(sb, value, limits);
+
+            return sb.toString();
+        } finally {
+            builder.release(sb);
+        }
+    }
+
+    /**
+     * Formats an elapsed time as milliseconds, to microsecond precision, for example <code>12.034</code>.
+     */
+    static String formatElapsed(long elapsedNanos) {
+        final long micros = elapsedNanos / NANOS_PER_MICRO;
+        final long fraction = micros % MICROS_PER_MILLI;
+        final ReusableStringBuilder builder = BUILDERS.get();
+        final StringBuilder sb = builder.acquire();
+
+        try {
+            sb.append(micros / MICROS_PER_MILLI).append('.');
+
+            for (long digit = MICROS_PER_MILLI / RADIX; digit > 1 && fraction < digit; digit /= RADIX) {
+                sb.append('0');
+            }
+            return sb.append(fraction).toString();
+        } finally {
+            builder.release(sb);
         }
-        return sb.toString();
     }
 
     private static boolean isNotToBeLogged(Annotation[] annotations) {
@@ -35,18 +143,211 @@ public final class LoggerUtil {
                 .anyMatch(a -> NoLogging.class.isAssignableFrom(a.getClass()));
     }
 
-    private static String strValueOf(Object obj) {
+    private static void appendArg(StringBuilder sb, Object obj, RenderLimits limits) {
+        final int start = sb.length();
+
         if (obj instanceof String) {
-            String strArg = obj.toString();
+            appendSanitized(sb, (String) obj);
+        } else {
+            appendValueOf(sb, obj, limits, start + limits.getMaxArgumentLength());
+        }
+        truncate(sb, start, limits.getMaxArgumentLength());
+    }
+
+    /**
+     * Truncates the characters appended to the builder since <code>start</code> to <code>maxLength</code> characters,
+     * ending with an ellipsis, if there are more than <code>maxLength</code>.
+     *
+     * @return <code>true</code> if the characters were truncated, otherwise <code>false</code>.
+     */
+    private static boolean truncate(StringBuilder sb, int start, int maxLength) {
+        if (sb.length() - start <= maxLength) {
+            return false;
+        }
+        sb.setLength(start + maxLength - ELLIPSIS_LENGTH);
+        sb.append(ELLIPSIS);
+
+        return true;
+    }
+
+    /**
+     * Appends a value, with a placeholder if it is an uninitialized Hibernate proxy or lazy collection, so that logging
+     * never initializes it, or with its registered {@link ArgumentRenderer} if it has one. Otherwise, no more than the
+     * maximum number of elements of collections, arrays and maps are rendered, stopping once the builder reaches
+     * <code>limit</code> characters, so that large values are never iterated in full. Strings are appended as they are,
+     * as they are by their <code>toString</code> methods, so that only the String arguments themselves are quoted.
+     */
+    private static void appendValueOf(StringBuilder sb, Object obj, RenderLimits limits, int limit) {
+        if (obj == null || obj instanceof String) {
+            sb.append(obj);
+            return;
+        }
+        if (HibernateLazyProxies.INSTANCE != null && HibernateLazyProxies.INSTANCE.appendIfUninitialized(sb, obj)) {
+            return;
+        }
+        final ArgumentRenderer<Object> renderer = ArgumentRenderers.rendererFor(obj.getClass());
+
+        if (renderer != null) {
+            renderer.render(obj, sb);
+        } else if (obj instanceof Collection) {
+            appendCollection(sb, (Collection<?>) obj, limits, limit);
+        } else if (obj instanceof Map) {
+            appendMap(sb, (Map<?, ?>) obj, limits, limit);
+        } else if (obj.getClass().isArray()) {
+            appendArray(sb, obj, limits, limit);
+        } else {
+            sb.append(obj);
+        }
+    }
+
+    private static void appendCollection(StringBuilder sb, Collection<?> collection, RenderLimits limits, int limit) {
+        final int size = collection.size();
+
+        if (limits.isSizeOnly()) {
+            sb.append('[').append(size).append(" elements]");
+            return;
+        }
+        sb.append('[');
+
+        final Iterator<?> iterator = collection.iterator();
+        int rendered = 0;
 
-            if (strArg.length() > MAX_DEBUG_STR_ARG_LEN) {
-                strArg = String.format("%s%s", strArg.substring(0, MAX_DEBUG_STR_ARG_LEN - ELLIPSIS_LENGTH), ELLIPSIS);
+        while (rendered < limits.getMaxElements() && sb.length() < limit && iterator.hasNext()) {
+            if (rendered > 0) {
+                sb.append(", ");
+            }
+            appendValueOf(sb, iterator.next(), limits, limit);
+            rendered++;
+        }
+        appendRemaining(sb, rendered, size);
+        sb.append(']');
+    }
+
+    private static void appendMap(StringBuilder sb, Map<?, ?> map, RenderLimits limits, int limit) {
+        final int size = map.size();
+
+        if (limits.isSizeOnly()) {
+            sb.append('{').append(size).append(" entries}");
+            return;
+        }
+        sb.append('{');
+
+        final Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+        int rendered = 0;
+
+        while (rendered < limits.getMaxElements() && sb.length() < limit && iterator.hasNext()) {
+            final Map.Entry<?, ?> entry = iterator.next();
+
+            if (rendered > 0) {
+                sb.append(", ");
+            }
+            appendValueOf(sb, entry.getKey(), limits, limit);
+            sb.append('=');
+            appendValueOf(sb, entry.getValue(), limits, limit);
+            rendered++;
+        }
+        appendRemaining(sb, rendered, size);
+        sb.append('}');
+    }
+
+    private static void appendArray(StringBuilder sb, Object array, RenderLimits limits, int limit) {
+        final int length = Array.getLength(array);
+
+        if (limits.isSizeOnly()) {
+            sb.append(array.getClass().getComponentType().getSimpleName()).append('[').append(length).append(']');
+            return;
+        }
+        sb.append('[');
+
+        int rendered = 0;
+
+        while (rendered < limits.getMaxElements() && sb.length() < limit && rendered < length) {
+            if (rendered > 0) {
+                sb.append(", ");
             }
-            strArg = strArg.replaceAll("(\r\n|\r|\n)", "\\\\n");
-            strArg = strArg.replaceAll("'", "\\'");
+            appendValueOf(sb, Array.get(array, rendered), limits, limit);
+            rendered++;
+        }
+        appendRemaining(sb, rendered, length);
+        sb.append(']');
+    }
 
-            return String.format("'%s'", strArg);
+    private static void appendRemaining(StringBuilder sb, int rendered, int size) {
+        if (rendered < size) {
+            if (rendered > 0) {
+                sb.append(", ");
+            }
+            sb.append(ELLIPSIS).append('(').append(size - rendered).append(" more)");
+        }
+    }
+
+    /**
+     * Appends a quoted, single line version of a String argument, truncated to {@link #MAX_DEBUG_STR_ARG_LEN}
+     * characters. Line breaks (<code>\r\n</code>, <code>\r</code> or <code>\n</code>) are replaced with a literal
+     * <code>\n</code>, in a single pass and without creating any intermediate Strings.
+     */
+    private static void appendSanitized(StringBuilder sb, String str) {
+        final boolean truncated = str.length() > MAX_DEBUG_STR_ARG_LEN;
+        final int end = truncated ? MAX_DEBUG_STR_ARG_LEN - ELLIPSIS_LENGTH : str.length();
+
+        sb.append('\'');
+
+        int start = 0;
+        int i = 0;
+
+        while (i < end) {
+            final char c = str.charAt(i++);
+
+            if (c == '\r' || c == '\n') {
+                sb.append(str, start, i - 1).append("\\n");
+
+                if (c == '\r' && i < end && str.charAt(i) == '\n') {
+                    i++;
+                }
+                start = i;
+            }
+        }
+        sb.append(str, start, end);
+
+        if (truncated) {
+            sb.append(ELLIPSIS);
+        }
+        sb.append('\'');
+    }
+
+    /**
+     * A per-thread builder, reused to format log statement arguments so that formatting them only allocates the
+     * resulting String. If the builder is already in use, for example because the <code>toString</code> method of an
+     * argument calls a logged method, a new builder is used instead. Builders that have grown beyond
+     * {@link #MAX_RETAINED_CAPACITY} are discarded after use, so that a thread does not retain a large builder, which
+     * also keeps the memory retained by short-lived virtual threads small.
+     */
+    static final class ReusableStringBuilder {
+        static final int INITIAL_CAPACITY = 256;
+        static final int MAX_RETAINED_CAPACITY = 8192;
+
+        private StringBuilder sb = new StringBuilder(INITIAL_CAPACITY);
+        private boolean inUse;
+
+        StringBuilder acquire() {
+            if (inUse) {
+                return new StringBuilder(INITIAL_CAPACITY);
+            }
+            inUse = true;
+            sb.setLength(0);
+
+            return sb;
+        }
+
+        void release(StringBuilder builder) {
+            if (builder != sb) {
+                return;
+            }
+            inUse = false;
+
+            if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+                sb = new StringBuilder(INITIAL_CAPACITY);
+            }
         }
-        return String.valueOf(obj);
     }
 }
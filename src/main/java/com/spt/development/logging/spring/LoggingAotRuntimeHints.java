@@ -0,0 +1,42 @@
+package com.spt.development.logging.spring;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Registers the runtime hints required by the logging aspects with Spring AOT, so that applications using them can be
+ * compiled to native images. Registered with <code>META-INF/spring/aot.factories</code>, so that it is applied to every
+ * application with the library on its classpath.
+ *
+ * <p>
+ * The advice and pointcut methods of the aspects are read with reflection when building advisors from them, and the
+ * optional types accessed with reflection by {@link HibernateLazyProxies} must be registered if present; as must the
+ * service file read by {@link ArgumentRenderers}.
+ * </p>
+ */
+class LoggingAotRuntimeHints implements RuntimeHintsRegistrar {
+    static final String LAZY_INITIALIZER_CLASS_NAME = "org.hibernate.proxy.LazyInitializer";
+
+    private static final List<Class<?>> ASPECTS = List.of(
+        LoggerAspect.class,
+        DaoSupportLogger.class,
+        JmsListenerLogger.class,
+        RepositoryLogger.class,
+        RestControllerLogger.class,
+        ServiceLogger.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ASPECTS.forEach(aspect -> hints.reflection().registerType(aspect, MemberCategory.INVOKE_DECLARED_METHODS));
+
+        List.of(HibernateLazyProxies.PROXY_CLASS_NAME, LAZY_INITIALIZER_CLASS_NAME, HibernateLazyProxies.COLLECTION_CLASS_NAME).forEach(
+            type -> hints.reflection().registerTypeIfPresent(classLoader, type, MemberCategory.INVOKE_PUBLIC_METHODS)
+        );
+
+        hints.resources().registerPattern("META-INF/services/" + ArgumentRenderer.class.getName());
+    }
+}
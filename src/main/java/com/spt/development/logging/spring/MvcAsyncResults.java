@@ -0,0 +1,133 @@
+package com.spt.development.logging.spring;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs and times the completion of controller methods returning a <code>Callable</code> or {@link DeferredResult},
+ * that Spring MVC completes asynchronously, when the result completes rather than when the method returns. An
+ * interceptor is registered with the {@link WebAsyncManager} of the current request for each result, that Spring MVC
+ * calls when the result completes, times out or fails; results returned outside of a Spring MVC request are completed
+ * when the method returns.
+ */
+final class MvcAsyncResults {
+    private MvcAsyncResults() {}
+
+    static boolean isMvcAsyncResult(final Object result) {
+        return (result instanceof Callable || result instanceof DeferredResult) && currentAsyncManager() != null;
+    }
+
+    static Object decorate(final Object result, final PendingInvocation pending) {
+        final WebAsyncManager asyncManager = currentAsyncManager();
+
+        if (asyncManager == null) {
+            pending.complete(result);
+
+            return result;
+        }
+        final CompletionInterceptor interceptor = new CompletionInterceptor(result, pending);
+
+        if (result instanceof Callable) {
+            asyncManager.registerCallableInterceptor(interceptor, interceptor);
+        } else {
+            asyncManager.registerDeferredResultInterceptor(interceptor, interceptor);
+        }
+        return result;
+    }
+
+    private static WebAsyncManager currentAsyncManager() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) {
+            return null;
+        }
+        // Created by Spring MVC before the controller method is called
+        final Object asyncManager = attributes.getAttribute(WebAsyncUtils.WEB_ASYNC_MANAGER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        return asyncManager instanceof WebAsyncManager ? (WebAsyncManager) asyncManager : null;
+    }
+
+    private static final class CompletionInterceptor implements CallableProcessingInterceptor, DeferredResultProcessingInterceptor {
+        private final Object result;
+        private final PendingInvocation pending;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private CompletionInterceptor(final Object result, final PendingInvocation pending) {
+            this.result = result;
+            this.pending = pending;
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+            if (task == result) {
+                complete(concurrentResult);
+            }
+        }
+
+        @Override
+        public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) {
+            // Unless handled by another interceptor, Spring MVC completes the request with this exception
+            if (task == result) {
+                complete(new AsyncRequestTimeoutException());
+            }
+            return CallableProcessingInterceptor.RESULT_NONE;
+        }
+
+        @Override
+        public <T> Object handleError(NativeWebRequest request, Callable<T> task, Throwable t) {
+            if (task == result) {
+                complete(t);
+            }
+            return CallableProcessingInterceptor.RESULT_NONE;
+        }
+
+        @Override
+        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+            if (task == result) {
+                cancel();
+            }
+        }
+
+        @Override
+        public <T> void postProcess(NativeWebRequest request, DeferredResult<T> deferredResult, Object concurrentResult) {
+            // Timeouts and errors are also set as the result of the DeferredResult, so are handled here
+            if (deferredResult == result) {
+                complete(concurrentResult);
+            }
+        }
+
+        @Override
+        public <T> void afterCompletion(NativeWebRequest request, DeferredResult<T> deferredResult) {
+            if (deferredResult == result) {
+                cancel();
+            }
+        }
+
+        private void complete(final Object concurrentResult) {
+            if (completed.compareAndSet(false, true)) {
+                if (concurrentResult instanceof Throwable) {
+                    pending.fail((Throwable) concurrentResult);
+                } else {
+                    pending.complete(concurrentResult);
+                }
+            }
+        }
+
+        private void cancel() {
+            // The request completed without a result, for example because the client disconnected
+            if (completed.compareAndSet(false, true)) {
+                pending.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.spt.development.logging.spring;
+
+import com.spt.development.logging.NoLogging;
+import org.aopalliance.aop.Advice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.MethodMatcher;
+import org.springframework.aop.PointcutAdvisor;
+import org.springframework.aop.aspectj.AbstractAspectJAdvice;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.target.SingletonTargetSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Removes the logging aspects from the proxies of beans that they would never log anything for, because the loggers
+ * of all the methods that they apply to are turned <code>OFF</code>, or because the class of the bean is annotated
+ * with {@link NoLogging}; the aspects' <code>@target</code> check for the annotation can only be evaluated when each
+ * method is called, so proxies are otherwise created for such beans. Where the logging aspects were the only advice
+ * applied to a bean, the bean itself is exposed rather than its proxy, so that calls to it are not intercepted at all.
+ * The beans skipped, and why, are logged at INFO level and are available from {@link #getSkippedBeans()}.
+ *
+ * <p>
+ * Loggers are only checked when beans are created, so this post processor should only be registered when the levels
+ * of those loggers are not changed at runtime; calls to the beans skipped are not logged, or their latencies recorded,
+ * if their loggers are later turned on. Aspects created with an
+ * {@link com.spt.development.logging.spring.metrics.InvocationMetricsSink} are never removed. Register as a
+ * <code>static</code> bean, for example:
+ * </p>
+ *
+ * <pre>
+ * &#64;Bean
+ * public static NeverLoggedBeanPostProcessor neverLoggedBeanPostProcessor() {
+ *     return new NeverLoggedBeanPostProcessor();
+ * }
+ * </pre>
+ */
+public class NeverLoggedBeanPostProcessor implements BeanPostProcessor, Ordered {
+    private static final Logger LOG = LoggerFactory.getLogger(NeverLoggedBeanPostProcessor.class);
+
+    private final Map<String, String> skippedBeans = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof Advised) || ((Advised) bean).isFrozen()) {
+            return bean;
+        }
+        final Advised advised = (Advised) bean;
+        final Class<?> targetClass = AopUtils.getTargetClass(bean);
+        final boolean notLoggedClass = targetClass.isAnnotationPresent(NoLogging.class);
+        final List<Advisor> neverLogging = new ArrayList<>();
+        final Set<String> offLoggers = new TreeSet<>();
+
+        for (Advisor advisor : advised.getAdvisors()) {
+            final InvocationLogger invocationLogger = invocationLogger(advisor.getAdvice());
+
+            if (invocationLogger != null && (notLoggedClass
+                || (!invocationLogger.isMetricsRecorded() && isNeverLogging(advisor, targetClass, offLoggers)))) {
+                neverLogging.add(advisor);
+            }
+        }
+
+        if (neverLogging.isEmpty()) {
+            return bean;
+        }
+        final String reason = notLoggedClass
+            ? "class is annotated with @NoLogging"
+            : "loggers are OFF: " + String.join(", ", offLoggers);
+
+        skippedBeans.put(beanName, reason);
+
+        if (isOnlyAdvice(advised, neverLogging) && advised.getTargetSource() instanceof SingletonTargetSource) {
+            LOG.info("Not proxying bean '{}' for logging, as it would never be logged; {}", beanName, reason);
+
+            return ((SingletonTargetSource) advised.getTargetSource()).getTarget();
+        }
+        LOG.info("Removed logging from proxy of bean '{}', as it would never be logged; {}", beanName, reason);
+
+        neverLogging.forEach(advised::removeAdvisor);
+
+        return bean;
+    }
+
+    private static InvocationLogger invocationLogger(final Advice advice) {
+        if (advice instanceof InvocationLogger) {
+            return (InvocationLogger) advice;
+        }
+        if (advice instanceof AbstractAspectJAdvice) {
+            final Object aspect = ((AbstractAspectJAdvice) advice).getAspectInstanceFactory().getAspectInstance();
+
+            return aspect instanceof InvocationLogger ? (InvocationLogger) aspect : null;
+        }
+        return null;
+    }
+
+    private static boolean isNeverLogging(final Advisor advisor, final Class<?> targetClass, final Set<String> offLoggers) {
+        if (!(advisor instanceof PointcutAdvisor)) {
+            return false;
+        }
+        final MethodMatcher methodMatcher = ((PointcutAdvisor) advisor).getPointcut().getMethodMatcher();
+        final Set<String> loggers = new TreeSet<>();
+
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(targetClass, ReflectionUtils.USER_DECLARED_METHODS)) {
+            if (Modifier.isPublic(method.getModifiers()) && methodMatcher.matches(method, targetClass)) {
+                final Logger logger = LoggerFactory.getLogger(method.getDeclaringClass());
+
+                // Errors are logged at the highest level, so if they aren't logged then nothing is
+                if (logger.isErrorEnabled()) {
+                    return false;
+                }
+                loggers.add(logger.getName());
+            }
+        }
+        offLoggers.addAll(loggers);
+
+        return !loggers.isEmpty();
+    }
+
+    private static boolean isOnlyAdvice(final Advised advised, final List<Advisor> neverLogging) {
+        for (Advisor advisor : advised.getAdvisors()) {
+            if (!neverLogging.contains(advisor) && advisor != ExposeInvocationInterceptor.ADVISOR) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the names of the beans that logging was removed from, along with the reason why.
+     *
+     * @return an unmodifiable map of the reasons beans were skipped, keyed on bean name.
+     */
+    public Map<String, String> getSkippedBeans() {
+        return Collections.unmodifiableMap(skippedBeans);
+    }
+
+    @Override
+    public int getOrder() {
+        // After the auto proxy creators, so that the proxies they create can be inspected
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
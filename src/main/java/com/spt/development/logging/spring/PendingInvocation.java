@@ -0,0 +1,135 @@
+package com.spt.development.logging.spring;
+
+import com.spt.development.cid.CorrelationId;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import com.spt.development.logging.spring.invocation.LoggedInvocation;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * A logged method call that has returned a result that completes later, possibly on a different thread, such as a
+ * <code>CompletableFuture</code> or a Reactor <code>Mono</code>. The completion of the call is logged, timed and
+ * reported to the metrics sink when the result completes, rather than when the method returns. The correlation ID of
+ * the thread that called the method is captured, so that it is included in the log statements regardless of the
+ * thread that the result completes on.
+ */
+final class PendingInvocation {
+    private final InvocationLogger logger;
+    private final LoggedInvocation invocation;
+    private final InvocationDescriptor descriptor;
+    private final long startTime;
+    private final boolean sampled;
+    private final String correlationId;
+
+    PendingInvocation(final InvocationLogger logger, final LoggedInvocation invocation, final InvocationDescriptor descriptor,
+                      final long startTime, final boolean sampled) {
+        this(logger, invocation, descriptor, startTime, sampled, CorrelationId.get());
+    }
+
+    private PendingInvocation(final InvocationLogger logger, final LoggedInvocation invocation, final InvocationDescriptor descriptor,
+                              final long startTime, final boolean sampled, final String correlationId) {
+        this.logger = logger;
+        this.invocation = invocation;
+        this.descriptor = descriptor;
+        this.startTime = startTime;
+        this.sampled = sampled;
+        this.correlationId = correlationId;
+    }
+
+    /**
+     * Creates a copy of this call, timed from now rather than from when the method was called, for results such as a
+     * Reactor <code>Mono</code> that do their work each time they are subscribed to, possibly long after the method
+     * returned and more than once.
+     *
+     * @return the call, timed from now, with the correlation ID of the thread that called the method.
+     */
+    PendingInvocation restarted() {
+        return new PendingInvocation(logger, invocation, descriptor, System.nanoTime(), sampled, correlationId);
+    }
+
+    /**
+     * Called when the result of the method completes successfully.
+     *
+     * @param result the value that the result completed with, to include in TRACE level logging.
+     */
+    void complete(final Object result) {
+        final long elapsedNanos = System.nanoTime() - startTime;
+        final String callerCorrelationId = CorrelationId.get();
+
+        CorrelationId.set(correlationId);
+
+        try {
+            logger.succeeded(invocation, descriptor, result, elapsedNanos, sampled);
+        } finally {
+            CorrelationId.set(callerCorrelationId);
+        }
+    }
+
+    /**
+     * Called when a result of the method that emits a number of elements, such as a Reactor <code>Flux</code>,
+     * completes successfully.
+     *
+     * @param elements the number of elements emitted.
+     */
+    void emitted(final long elements) {
+        final long elapsedNanos = System.nanoTime() - startTime;
+        final String callerCorrelationId = CorrelationId.get();
+
+        CorrelationId.set(correlationId);
+
+        try {
+            logger.emitted(invocation, descriptor, elements, elapsedNanos, sampled);
+        } finally {
+            CorrelationId.set(callerCorrelationId);
+        }
+    }
+
+    /**
+     * Called when a <code>CompletionStage</code> returned by the method completes, either successfully or with an
+     * exception.
+     *
+     * @param result the value that the result completed with, if successful.
+     * @param t the exception that the result completed with, or <code>null</code> if successful.
+     */
+    void complete(final Object result, final Throwable t) {
+        if (t == null) {
+            complete(result);
+        } else {
+            fail(t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+        }
+    }
+
+    /**
+     * Called when the result of the method completes with an exception.
+     *
+     * @param t the exception that the result completed with.
+     */
+    void fail(final Throwable t) {
+        final long elapsedNanos = System.nanoTime() - startTime;
+        final String callerCorrelationId = CorrelationId.get();
+
+        CorrelationId.set(correlationId);
+
+        try {
+            logger.failed(invocation, descriptor, t, elapsedNanos);
+        } finally {
+            CorrelationId.set(callerCorrelationId);
+        }
+    }
+
+    /**
+     * Called when the subscriber to the result of the method cancels its subscription before the result completes.
+     */
+    void cancel() {
+        final long elapsedNanos = System.nanoTime() - startTime;
+        final String callerCorrelationId = CorrelationId.get();
+
+        CorrelationId.set(correlationId);
+
+        try {
+            logger.cancelled(invocation, descriptor, elapsedNanos, sampled);
+        } finally {
+            CorrelationId.set(callerCorrelationId);
+        }
+    }
+}
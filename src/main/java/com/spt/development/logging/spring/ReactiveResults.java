@@ -0,0 +1,59 @@
+package com.spt.development.logging.spring;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+/**
+ * Decorates Reactor <code>Mono</code> and <code>Flux</code> results of logged methods, so that the completion, error
+ * or cancellation of the result is logged and timed when it is signalled, rather than when the method returns; for a
+ * <code>Flux</code>, the number of elements emitted is logged and reported instead of the result. Each
+ * subscription is timed from when it is made, rather than from when the method was called, so that results that are
+ * subscribed to late, or more than once (for example with <code>retry</code> or <code>repeat</code>), are timed
+ * correctly. Only referenced when Reactor is on the classpath.
+ */
+final class ReactiveResults {
+    private ReactiveResults() {}
+
+    static boolean isReactive(final Object result) {
+        return result instanceof Mono || result instanceof Flux;
+    }
+
+    static Object decorate(final Object result, final PendingInvocation pending) {
+        if (result instanceof Mono) {
+            final Mono<?> mono = (Mono<?>) result;
+
+            return Mono.defer(() -> {
+                final PendingInvocation subscription = pending.restarted();
+
+                return mono
+                    .doOnSuccess(subscription::complete)
+                    .doOnError(subscription::fail)
+                    .doOnCancel(subscription::cancel);
+            });
+        }
+        final Flux<?> flux = (Flux<?>) result;
+
+        // Count the elements emitted to each subscriber, without allocating per element
+        return Flux.defer(() -> {
+            final PendingInvocation subscription = pending.restarted();
+            final ElementCount count = new ElementCount();
+
+            return flux
+                .doOnNext(count)
+                .doOnComplete(() -> subscription.emitted(count.count))
+                .doOnError(subscription::fail)
+                .doOnCancel(subscription::cancel);
+        });
+    }
+
+    private static final class ElementCount implements Consumer<Object> {
+        private long count;
+
+        @Override
+        public void accept(final Object element) {
+            count++;
+        }
+    }
+}
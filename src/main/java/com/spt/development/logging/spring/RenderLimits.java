@@ -0,0 +1,114 @@
+package com.spt.development.logging.spring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Properties;
+
+/**
+ * The limits applied when rendering the arguments and return values of logged methods, so that large collections,
+ * arrays, maps and objects with large String representations do not produce arbitrarily large log statements. The
+ * default limits can be overridden with the following system properties:
+ *
+ * <ul>
+ *     <li><code>spt.logging.max-rendered-elements</code> - the maximum number of elements of a collection, array or
+ *     map that are rendered, with the number of remaining elements summarised, for example
+ *     <code>[1, 2, 3, ...(49997 more)]</code>. Defaults to <code>10</code>.</li>
+ *     <li><code>spt.logging.render-size-only</code> - <code>true</code> to render only the size of collections,
+ *     arrays and maps, for example <code>byte[65536]</code>. Defaults to <code>false</code>.</li>
+ *     <li><code>spt.logging.max-rendered-argument-length</code> - the maximum number of characters an argument or
+ *     return value is rendered with. Defaults to <code>500</code>.</li>
+ *     <li><code>spt.logging.max-rendered-arguments-length</code> - the maximum number of characters that all the
+ *     arguments of a method are rendered with. Defaults to <code>2000</code>.</li>
+ * </ul>
+ *
+ * <p>
+ * Invalid values are logged as warnings and the defaults used in their place.
+ * </p>
+ */
+final class RenderLimits {
+    static final String MAX_ELEMENTS_PROPERTY = "spt.logging.max-rendered-elements";
+    static final String SIZE_ONLY_PROPERTY = "spt.logging.render-size-only";
+    static final String MAX_ARGUMENT_LENGTH_PROPERTY = "spt.logging.max-rendered-argument-length";
+    static final String MAX_ARGUMENTS_LENGTH_PROPERTY = "spt.logging.max-rendered-arguments-length";
+
+    private static final int DEFAULT_MAX_ELEMENTS = 10;
+    private static final int DEFAULT_MAX_ARGUMENT_LENGTH = 500;
+    private static final int DEFAULT_MAX_ARGUMENTS_LENGTH = 2000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(RenderLimits.class);
+
+    static final RenderLimits DEFAULT = fromProperties(System.getProperties());
+
+    private final int maxElements;
+    private final boolean sizeOnly;
+    private final int maxArgumentLength;
+    private final int maxArgumentsLength;
+
+    RenderLimits(final int maxElements, final boolean sizeOnly, final int maxArgumentLength, final int maxArgumentsLength) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("Maximum rendered elements must not be negative, but was " + maxElements);
+        }
+        if (maxArgumentLength <= LoggerUtil.ELLIPSIS_LENGTH || maxArgumentsLength <= LoggerUtil.ELLIPSIS_LENGTH) {
+            throw new IllegalArgumentException(
+                "Maximum rendered lengths must be greater than " + LoggerUtil.ELLIPSIS_LENGTH + ", but were "
+                    + maxArgumentLength + " and " + maxArgumentsLength
+            );
+        }
+        this.maxElements = maxElements;
+        this.sizeOnly = sizeOnly;
+        this.maxArgumentLength = maxArgumentLength;
+        this.maxArgumentsLength = maxArgumentsLength;
+    }
+
+    /**
+     * Creates the limits configured with the given properties, using the defaults for any that are not set. If the
+     * limits configured are invalid, a warning is logged and the defaults used instead, so that a misconfigured
+     * property does not prevent logging.
+     */
+    static RenderLimits fromProperties(final Properties properties) {
+        final boolean sizeOnly = Boolean.parseBoolean(properties.getProperty(SIZE_ONLY_PROPERTY));
+
+        try {
+            return new RenderLimits(
+                intProperty(properties, MAX_ELEMENTS_PROPERTY, DEFAULT_MAX_ELEMENTS),
+                sizeOnly,
+                intProperty(properties, MAX_ARGUMENT_LENGTH_PROPERTY, DEFAULT_MAX_ARGUMENT_LENGTH),
+                intProperty(properties, MAX_ARGUMENTS_LENGTH_PROPERTY, DEFAULT_MAX_ARGUMENTS_LENGTH)
+            );
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Invalid rendering limits, using the defaults: {}", e.getMessage());
+
+            return new RenderLimits(DEFAULT_MAX_ELEMENTS, sizeOnly, DEFAULT_MAX_ARGUMENT_LENGTH, DEFAULT_MAX_ARGUMENTS_LENGTH);
+        }
+    }
+
+    private static int intProperty(final Properties properties, final String name, final int defaultValue) {
+        final String value = properties.getProperty(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be an integer, but was '" + value + "'", e);
+        }
+    }
+
+    int getMaxElements() {
+        return maxElements;
+    }
+
+    boolean isSizeOnly() {
+        return sizeOnly;
+    }
+
+    int getMaxArgumentLength() {
+        return maxArgumentLength;
+    }
+
+    int getMaxArgumentsLength() {
+        return maxArgumentsLength;
+    }
+}
@@ -1,16 +1,24 @@
 package com.spt.development.logging.spring;
 
-import com.spt.development.logging.spring.invocation.LoggedInvocation;
+import com.spt.development.cid.CorrelationId;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import com.spt.development.logging.spring.metrics.InvocationMetricsSink;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.Logger;
+import org.slf4j.event.Level;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.http.HttpStatus;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.client.HttpStatusCodeException;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Logs calls to all public methods belonging to classes with the
  * <code>org.springframework.web.bind.annotation.RestController</code> annotation.
@@ -18,6 +26,19 @@ import org.springframework.web.client.HttpStatusCodeException;
 @Aspect
 public class RestControllerLogger extends LoggerAspect {
     private static final String HTTP_STATUS_FIELD = "code";
+    private static final boolean WEB_MVC_PRESENT = ClassUtils.isPresent(
+        "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody", RestControllerLogger.class.getClassLoader()
+    );
+
+    private final Map<Class<?>, HttpStatus.Series> exceptionStatusSeries = new ConcurrentHashMap<>();
+    private final ClassValue<Boolean> unexpectedOr5xxServerErrors = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isUnexpectedOr5xxServerError(type);
+        }
+    };
+
+    private ExceptionLogRateLimiter exceptionLogRateLimiter;
 
     /**
      * Creates a new instance of the logger aspect. The log statements added by the aspect will include the current
@@ -34,7 +55,62 @@ public class RestControllerLogger extends LoggerAspect {
      *                                   in the log statements added by the aspect.
      */
     public RestControllerLogger(final boolean includeCorrelationIdInLogs) {
-        super(includeCorrelationIdInLogs, true);
+        this(includeCorrelationIdInLogs, null);
+    }
+
+    /**
+     * Creates a new instance of the logger aspect, that also reports the outcome of every method call to the given
+     * metrics sink.
+     *
+     * @param includeCorrelationIdInLogs a flag to determine whether the correlation ID should be explicitly included
+     *                                   in the log statements added by the aspect.
+     * @param metricsSink the sink to report the outcome of method calls to, or <code>null</code> to not report
+     *                    metrics.
+     */
+    public RestControllerLogger(final boolean includeCorrelationIdInLogs, final InvocationMetricsSink metricsSink) {
+        super(includeCorrelationIdInLogs, true, metricsSink);
+    }
+
+    /**
+     * Limits the number of exceptions logged at ERROR level, so that a failing downstream dependency does not flood the
+     * logs with stack traces. For each method and exception class, the full details of the first
+     * <code>maxLoggedPerWindow</code> exceptions within each window are logged; further exceptions are counted and
+     * summarised in a single log statement, for example
+     * <code>MyController.create - suppressed 14213 x java.net.SocketTimeoutException over 60s</code>, once the window
+     * has ended, with the correlation ID of the last call whose exception was suppressed. Exceptions that have already
+     * been logged by another method are referred to rather than logged again, so are not counted. The windows are
+     * checked by a background thread, that also stops tracking the methods and exception classes that have not failed
+     * for a whole window, and is stopped when the logger is {@link #close() closed}. By default, every exception is
+     * logged. Must be set before the logger is used.
+     *
+     * @param maxLoggedPerWindow the maximum number of exceptions to log per method and exception class within a window.
+     * @param window the length of the window, at least one second.
+     */
+    public void setExceptionLogRateLimit(final int maxLoggedPerWindow, final Duration window) {
+        final ExceptionLogRateLimiter previous = exceptionLogRateLimiter;
+
+        this.exceptionLogRateLimiter = new ExceptionLogRateLimiter(
+            getClass().getSimpleName() + "-exception-summary", maxLoggedPerWindow, window, this::logSuppressed
+        );
+
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Maps exceptions of the given type (and its subclasses) to an HTTP status series, overriding any
+     * {@link ResponseStatus} annotation on the exception. Exceptions mapped to the
+     * {@link HttpStatus.Series#SERVER_ERROR} series are logged at ERROR level, exceptions mapped to any other series are
+     * logged at INFO level. Where an exception is a subclass of more than one mapped type, the mapping of the most
+     * specific type is used. Mappings also apply to {@link HttpStatusCodeException} and its subclasses, overriding the
+     * status code of the exception, which is otherwise used. Must be called before the logger is used.
+     *
+     * @param type the type of exception to map.
+     * @param series the HTTP status series that the exceptions are mapped to.
+     */
+    public void mapExceptionToStatusSeries(final Class<? extends Throwable> type, final HttpStatus.Series series) {
+        exceptionStatusSeries.put(type, series);
     }
 
     /**
@@ -46,13 +122,22 @@ public class RestControllerLogger extends LoggerAspect {
      * <pre>
      * [c237922b-48a8-4451-860a-3b456a5ffe17] MyController.someActionMethod()
      * ...
-     * [c237922b-48a8-4451-860a-3b456a5ffe17] MyController.someActionMethod Returned: &lt;200 OK OK,[]&gt;
+     * [c237922b-48a8-4451-860a-3b456a5ffe17] MyController.someActionMethod Returned: &lt;200 OK OK,[]&gt; in 0.153ms
      * </pre>
      *
      * <p>If an exception occurs, the exception is annotated with the {@link ResponseStatus} annotation and the exception
      * is mapped to a non-5XX HTTP status code, the exception is logged at INFO level (the full exception details are
      * logged at DEBUG), otherwise i.e. if the exception is mapped to a 5XX status code, the full exception details
-     * including stack trace are logged at ERROR.</p>
+     * including stack trace are logged at ERROR, subject to the limit set with
+     * {@link #setExceptionLogRateLimit(int, Duration)}. How exceptions are mapped to HTTP status codes can be
+     * overridden with {@link #mapExceptionToStatusSeries(Class, HttpStatus.Series)}. If the full details of the
+     * exception have already been logged, for example by a nested controller that the exception propagated from, a
+     * single line referring to the earlier log statement is logged instead.</p>
+     *
+     * <p>If the method returns a result that Spring MVC completes asynchronously, such as a
+     * <code>CompletableFuture</code>, <code>Callable</code>, <code>DeferredResult</code> or
+     * <code>StreamingResponseBody</code>, the completion (or exception) is logged and timed when the result
+     * completes, rather than when the method returns.</p>
      *
      * @param point the aspect join point required for implementing a {@link Around} aspect.
      *
@@ -67,29 +152,139 @@ public class RestControllerLogger extends LoggerAspect {
     }
 
     @Override
-    Object proceed(LoggedInvocation invocation, Logger log) throws Throwable {
-        try {
-            return super.proceed(invocation, log);
-        } catch (Throwable t) {
-            if (isUnexpectedOr5xxServerError(t)) {
-                error(log, "{}.{} threw exception: ", invocation.getDeclaringClass().getSimpleName(), invocation.getMethod().getName(), t);
-            } else {
-                info(log, "{}.{} threw exception: {}", invocation.getDeclaringClass().getSimpleName(), invocation.getMethod().getName(),
-                        t.getClass().getCanonicalName());
-
-                debug(log, "Exception: ", t);
+    boolean isDeferredResult(Object result) {
+        return super.isDeferredResult(result)
+            || MvcAsyncResults.isMvcAsyncResult(result)
+            || (WEB_MVC_PRESENT && StreamingResults.isStreamingResult(result));
+    }
+
+    @Override
+    Object decorateDeferredResult(Object result, PendingInvocation pending) {
+        if (MvcAsyncResults.isMvcAsyncResult(result)) {
+            return MvcAsyncResults.decorate(result, pending);
+        }
+        if (WEB_MVC_PRESENT && StreamingResults.isStreamingResult(result)) {
+            return StreamingResults.decorate(result, pending);
+        }
+        return super.decorateDeferredResult(result, pending);
+    }
+
+    @Override
+    boolean logFailure(InvocationDescriptor descriptor, Object[] args, Throwable t, long elapsedNanos) {
+        final Logger log = descriptor.getLogger();
+
+        if (isUnexpectedOr5xxServerError(t)) {
+            final String loggedBy = LoggedExceptions.loggedBy(t);
+
+            if (loggedBy != null) {
+                final Object arguments = failureArguments(descriptor, args);
+
+                log(
+                    log, Level.ERROR, failureKeyValues(descriptor, t, elapsedNanos, arguments),
+                    arguments != null ? "{}({}) threw exception: {} - see earlier log from {}" : "{} threw exception: {} - see earlier log from {}",
+                    failureMessageArguments(descriptor, arguments, t.getClass().getCanonicalName(), loggedBy)
+                );
+                return true;
+            }
+            if (exceptionLogRateLimiter != null && !exceptionLogRateLimiter.isLogged(descriptor, t.getClass(), System.nanoTime())) {
+                return true;
             }
-            throw t;
+            final Object arguments = failureArguments(descriptor, args);
+
+            log(
+                log, Level.ERROR, failureKeyValues(descriptor, t, elapsedNanos, arguments),
+                arguments != null ? "{}({}) threw exception: " : "{} threw exception: ", failureMessageArguments(descriptor, arguments, t)
+            );
+            LoggedExceptions.logged(t, descriptor.getDisplayName());
+        } else {
+            final Object arguments = failureArguments(descriptor, args);
+
+            if (arguments != null) {
+                // The stack trace is added to the single statement logged for the call, rather than logged separately
+                log(
+                    log, Level.INFO, failureKeyValues(descriptor, t, elapsedNanos, arguments), "{}({}) threw exception: {}",
+                    log.isDebugEnabled()
+                        ? failureMessageArguments(descriptor, arguments, t.getClass().getCanonicalName(), t)
+                        : failureMessageArguments(descriptor, arguments, t.getClass().getCanonicalName())
+                );
+                return true;
+            }
+            log(
+                log, Level.INFO, failureKeyValues(descriptor, t, elapsedNanos), "{} threw exception: {}",
+                descriptor.getDisplayName(), t.getClass().getCanonicalName()
+            );
+            debug(log, "Exception: ", t);
         }
+        return true;
+    }
+
+    private static Object[] failureMessageArguments(InvocationDescriptor descriptor, Object arguments, Object... details) {
+        final int prefixLength = arguments != null ? 2 : 1;
+        final Object[] messageArguments = new Object[prefixLength + details.length];
+
+        messageArguments[0] = descriptor.getDisplayName();
+
+        if (arguments != null) {
+            messageArguments[1] = arguments;
+        }
+        System.arraycopy(details, 0, messageArguments, prefixLength, details.length);
+
+        return messageArguments;
+    }
+
+    private void logSuppressed(InvocationDescriptor descriptor, Class<?> type, long suppressed, long seconds, String correlationId) {
+        // Logged with the correlation ID of the last suppressed call, rather than that of the thread the summary is logged on
+        final String callerCorrelationId = CorrelationId.get();
+
+        CorrelationId.set(correlationId);
+
+        try {
+            log(
+                descriptor.getLogger(), Level.ERROR, suppressedKeyValues(descriptor, type, suppressed), "{} - suppressed {} x {} over {}s",
+                descriptor.getDisplayName(), suppressed, type.getName(), seconds
+            );
+        } finally {
+            CorrelationId.set(callerCorrelationId);
+        }
+    }
+
+    /**
+     * Logs the summaries of any exceptions suppressed by the exception log rate limit, if set, and stops the background
+     * thread that checks for them, before closing the logger as {@link InvocationLogger#close()} does.
+     */
+    @Override
+    public void close() {
+        if (exceptionLogRateLimiter != null) {
+            exceptionLogRateLimiter.close();
+        }
+        super.close();
     }
 
     private boolean isUnexpectedOr5xxServerError(Throwable t) {
-        if (!(t instanceof HttpStatusCodeException)) {
-            final AnnotationAttributes responseStatus = AnnotatedElementUtils.getMergedAnnotationAttributes(t.getClass(), ResponseStatus.class);
+        // Resolving merged annotations is expensive, so cache the result per exception class
+        final Boolean unexpectedOr5xxServerError = unexpectedOr5xxServerErrors.get(t.getClass());
 
-            return responseStatus == null || !responseStatus.containsKey(HTTP_STATUS_FIELD)
-                || ((HttpStatus) responseStatus.getEnum(HTTP_STATUS_FIELD)).is5xxServerError();
+        if (unexpectedOr5xxServerError != null) {
+            return unexpectedOr5xxServerError;
         }
+        // An unmapped HttpStatusCodeException, so it depends on the status code of the exception itself
         return ((HttpStatusCodeException) t).getStatusCode().is5xxServerError();
     }
+
+    private Boolean isUnexpectedOr5xxServerError(Class<?> type) {
+        for (Class<?> superclass = type; superclass != null; superclass = superclass.getSuperclass()) {
+            final HttpStatus.Series series = exceptionStatusSeries.get(superclass);
+
+            if (series != null) {
+                return series == HttpStatus.Series.SERVER_ERROR;
+            }
+        }
+        if (HttpStatusCodeException.class.isAssignableFrom(type)) {
+            return null;
+        }
+        final AnnotationAttributes responseStatus = AnnotatedElementUtils.getMergedAnnotationAttributes(type, ResponseStatus.class);
+
+        return responseStatus == null || !responseStatus.containsKey(HTTP_STATUS_FIELD)
+            || ((HttpStatus) responseStatus.getEnum(HTTP_STATUS_FIELD)).is5xxServerError();
+    }
 }
@@ -1,5 +1,6 @@
 package com.spt.development.logging.spring;
 
+import com.spt.development.logging.spring.metrics.InvocationMetricsSink;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -26,7 +27,20 @@ public class ServiceLogger extends LoggerAspect {
      *                                   in the log statements added by the aspect.
      */
     public ServiceLogger(final boolean includeCorrelationIdInLogs) {
-        super(includeCorrelationIdInLogs);
+        this(includeCorrelationIdInLogs, null);
+    }
+
+    /**
+     * Creates a new instance of the logger aspect, that also reports the outcome of every method call to the given
+     * metrics sink.
+     *
+     * @param includeCorrelationIdInLogs a flag to determine whether the correlation ID should be explicitly included
+     *                                   in the log statements added by the aspect.
+     * @param metricsSink the sink to report the outcome of method calls to, or <code>null</code> to not report
+     *                    metrics.
+     */
+    public ServiceLogger(final boolean includeCorrelationIdInLogs, final InvocationMetricsSink metricsSink) {
+        super(includeCorrelationIdInLogs, metricsSink);
     }
 
     /**
@@ -38,7 +52,7 @@ public class ServiceLogger extends LoggerAspect {
      * <pre>
      * [40872057-a1b6-4fdd-bce1-7882929bbce6] MyService.read(4)
      * ...
-     * [40872057-a1b6-4fdd-bce1-7882929bbce6] MyService.read Returned: MyEntity(id=4, name=test)
+     * [40872057-a1b6-4fdd-bce1-7882929bbce6] MyService.read Returned: MyEntity(id=4, name=test) in 0.153ms
      * </pre>
      *
      * @param point the aspect join point required for implementing a {@link Around} aspect.
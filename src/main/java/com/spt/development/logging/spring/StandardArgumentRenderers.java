@@ -0,0 +1,65 @@
+package com.spt.development.logging.spring;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.Errors;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Renderers for common JDK and Spring types, whose <code>toString</code> methods are either not useful in log
+ * statements or may include large or sensitive values.
+ */
+final class StandardArgumentRenderers {
+    private static final boolean WEB_PRESENT = ClassUtils.isPresent(
+        "org.springframework.web.multipart.MultipartFile", StandardArgumentRenderers.class.getClassLoader()
+    );
+
+    static final List<ArgumentRenderer<?>> ALL = all();
+
+    private StandardArgumentRenderers() {}
+
+    private static List<ArgumentRenderer<?>> all() {
+        final List<ArgumentRenderer<?>> renderers = new ArrayList<>();
+
+        renderers.add(ArgumentRenderer.of(InputStream.class, StandardArgumentRenderers::renderSimpleName));
+        renderers.add(ArgumentRenderer.of(OutputStream.class, StandardArgumentRenderers::renderSimpleName));
+        renderers.add(ArgumentRenderer.of(Reader.class, StandardArgumentRenderers::renderSimpleName));
+        renderers.add(ArgumentRenderer.of(Writer.class, StandardArgumentRenderers::renderSimpleName));
+        renderers.add(ArgumentRenderer.of(Class.class, (type, sb) -> sb.append(type.getName())));
+
+        // Principals (including Spring Security Authentications) are rendered by name, to exclude credentials
+        renderers.add(ArgumentRenderer.of(Principal.class, (principal, sb) -> sb.append(principal.getName())));
+        renderers.add(ArgumentRenderer.of(Errors.class, (errors, sb) ->
+            sb.append(errors.getObjectName()).append('[').append(errors.getErrorCount()).append(" errors]")
+        ));
+
+        if (WEB_PRESENT) {
+            renderers.add(WebRenderers.MULTIPART_FILE);
+        }
+        return Collections.unmodifiableList(renderers);
+    }
+
+    private static void renderSimpleName(Object value, StringBuilder sb) {
+        sb.append(value.getClass().getSimpleName());
+    }
+
+    /**
+     * Renderers for types in <code>spring-web</code>, which is optional, so only loaded when present.
+     */
+    private static final class WebRenderers {
+        private static final ArgumentRenderer<MultipartFile> MULTIPART_FILE = ArgumentRenderer.of(MultipartFile.class, (file, sb) ->
+            sb.append("MultipartFile[name=").append(file.getName())
+                .append(", originalFilename=").append(file.getOriginalFilename())
+                .append(", size=").append(file.getSize())
+                .append(']')
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.spt.development.logging.spring;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+/**
+ * Decorates the {@link StreamingResponseBody} results of controller methods (including those wrapped in a
+ * {@link ResponseEntity}), that Spring MVC writes to the response asynchronously, so that the completion of the method
+ * call is logged and timed when the response body has been written, rather than when the method returns. Only
+ * referenced when Spring MVC is on the classpath.
+ */
+final class StreamingResults {
+    private StreamingResults() {}
+
+    static boolean isStreamingResult(final Object result) {
+        return result instanceof StreamingResponseBody
+            || (result instanceof ResponseEntity && ((ResponseEntity<?>) result).getBody() instanceof StreamingResponseBody);
+    }
+
+    static Object decorate(final Object result, final PendingInvocation pending) {
+        if (result instanceof ResponseEntity) {
+            final ResponseEntity<?> entity = (ResponseEntity<?>) result;
+
+            return new ResponseEntity<>(
+                decorate((StreamingResponseBody) entity.getBody(), pending), entity.getHeaders(), entity.getStatusCode()
+            );
+        }
+        return decorate((StreamingResponseBody) result, pending);
+    }
+
+    private static StreamingResponseBody decorate(StreamingResponseBody body, PendingInvocation pending) {
+        return outputStream -> {
+            try {
+                body.writeTo(outputStream);
+            } catch (IOException | RuntimeException e) {
+                pending.fail(e);
+
+                throw e;
+            }
+            pending.complete(null);
+        };
+    }
+}
@@ -1,7 +1,7 @@
 package com.spt.development.logging.spring.annotation;
 
 import com.spt.development.logging.spring.BeanLogger;
-import org.springframework.aop.aspectj.AspectJExpressionPointcutAdvisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,7 +17,6 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
-import static com.spt.development.logging.spring.LoggerUtil.LOGGING_DISABLED_POINTCUT_EXPRESSION;
 import static org.springframework.beans.factory.config.BeanDefinition.ROLE_INFRASTRUCTURE;
 
 /**
@@ -52,44 +51,18 @@ public class BeanLoggerConfiguration implements ImportAware {
         }
     }
 
+    /**
+     * Creates the advisor applying the {@link BeanLogger} to the methods of the beans in the included packages, as
+     * matched by a {@link BeanLoggingPointcut}.
+     *
+     * @param mdcDisabled a flag to determine whether the correlation ID should be included in the log statements.
+     *
+     * @return the advisor.
+     */
     @Bean
     @Role(ROLE_INFRASTRUCTURE)
-    public AspectJExpressionPointcutAdvisor beanLogger(@Value("${spt.cid.mdc.disabled:false}") final boolean mdcDisabled) {
-        final AspectJExpressionPointcutAdvisor pointcutAdvisor = new AspectJExpressionPointcutAdvisor();
-
-        pointcutAdvisor.setExpression(buildPointcutAdvisorExpression());
-        pointcutAdvisor.setAdvice(new BeanLogger(mdcDisabled));
-
-        return pointcutAdvisor;
-    }
-
-    private String buildPointcutAdvisorExpression() {
-        final StringBuilder sb = new StringBuilder("(");
-
+    public DefaultPointcutAdvisor beanLogger(@Value("${spt.cid.mdc.disabled:false}") final boolean mdcDisabled) {
         // Assumes creation of bean will have failed in setImportMetadata, if includeBasePackageClasses was empty
-        for (Class<?> includeBasePackage : includeBasePackageClasses) {
-            if (sb.length() > 1) {
-                sb.append(" || ");
-            }
-
-            // Add logging to all public methods in the package
-            sb.append("execution(* ")
-                .append(includeBasePackage.getPackageName())
-                .append("..*(..))");
-        }
-        sb.append(')');
-
-        for (Class<?> excludedClass : excludedClasses) {
-            // Exclude logging from all methods in the class
-            sb.append(" && !execution(* ")
-                .append(excludedClass.getName())
-                .append("..*(..))");
-        }
-
-        sb.append(" && !(")
-            .append(LOGGING_DISABLED_POINTCUT_EXPRESSION)
-            .append(')');
-
-        return sb.toString();
+        return new DefaultPointcutAdvisor(new BeanLoggingPointcut(includeBasePackageClasses, excludedClasses), new BeanLogger(mdcDisabled));
     }
 }
@@ -0,0 +1,141 @@
+package com.spt.development.logging.spring.annotation;
+
+import com.spt.development.logging.NoLogging;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches the methods of classes in (or below) the packages of the classes included with
+ * {@link EnableBeanLogging#includeBasePackageClasses()}, other than the classes excluded with
+ * {@link EnableBeanLogging#excludedClasses()} and classes or methods annotated with {@link NoLogging}. The included
+ * packages are held in a trie of package name segments and the excluded classes in a set, so that matching a class is
+ * a single walk of its package name, rather than evaluating an AspectJ expression for every method of every bean.
+ */
+public final class BeanLoggingPointcut extends StaticMethodMatcherPointcut {
+    private final PackageTrie includedPackages = new PackageTrie();
+    private final Set<Class<?>> excludedClasses;
+    private final ClassValue<Boolean> notLoggedClasses = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(NoLogging.class);
+        }
+    };
+
+    /**
+     * Creates a pointcut matching the methods of classes in (or below) the packages of the given classes.
+     *
+     * @param includeBasePackageClasses classes in the packages to be logged.
+     * @param excludedClasses classes in those packages not to be logged.
+     */
+    public BeanLoggingPointcut(final Collection<Class<?>> includeBasePackageClasses, final Collection<Class<?>> excludedClasses) {
+        for (Class<?> includeBasePackageClass : includeBasePackageClasses) {
+            includedPackages.add(includeBasePackageClass.getPackageName());
+        }
+        this.excludedClasses = new HashSet<>(excludedClasses);
+
+        setClassFilter(this::isLoggedClass);
+    }
+
+    /**
+     * Determines whether any methods of the given class may be logged; the class, or one of its super classes, must
+     * be in an included package and the class must not be excluded or annotated with {@link NoLogging}.
+     *
+     * @param targetClass the class of the bean.
+     *
+     * @return <code>true</code> if methods of the class may be logged, otherwise <code>false</code>.
+     */
+    private boolean isLoggedClass(Class<?> targetClass) {
+        if (isExcluded(targetClass) || notLoggedClasses.get(targetClass)) {
+            return false;
+        }
+
+        for (Class<?> type = targetClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (includedPackages.contains(type.getPackageName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean matches(Method method, Class<?> targetClass) {
+        final Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        final Class<?> declaringClass = specificMethod.getDeclaringClass();
+
+        // As with an execution pointcut, methods of any visibility declared by classes in the included packages are matched
+        return !specificMethod.isAnnotationPresent(NoLogging.class)
+            && !isExcluded(declaringClass)
+            && includedPackages.contains(declaringClass.getPackageName());
+    }
+
+    private boolean isExcluded(Class<?> type) {
+        // Methods of classes nested within excluded classes are also excluded
+        for (Class<?> enclosingType = type; enclosingType != null; enclosingType = enclosingType.getEnclosingClass()) {
+            if (excludedClasses.contains(enclosingType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A trie of package name segments, for determining whether a package is in, or below, any of the packages added.
+     */
+    static final class PackageTrie {
+        private final Node root = new Node();
+
+        void add(String packageName) {
+            Node node = root;
+
+            for (String segment : segments(packageName)) {
+                node = node.children.computeIfAbsent(segment, s -> new Node());
+            }
+            node.terminal = true;
+        }
+
+        boolean contains(String packageName) {
+            Node node = root;
+
+            if (node.terminal) {
+                return true;
+            }
+
+            int start = 0;
+
+            while (start <= packageName.length()) {
+                final int end = packageName.indexOf('.', start);
+                final String segment = packageName.substring(start, end >= 0 ? end : packageName.length());
+
+                node = node.children.get(segment);
+
+                if (node == null) {
+                    return false;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+                if (end < 0) {
+                    return false;
+                }
+                start = end + 1;
+            }
+            return false;
+        }
+
+        private static String[] segments(String packageName) {
+            return packageName.isEmpty() ? new String[0] : packageName.split("\\.");
+        }
+
+        private static final class Node {
+            private final Map<String, Node> children = new HashMap<>();
+            private boolean terminal;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.spt.development.logging.spring.invocation;
+
+import com.spt.development.logging.NoLogging;
+import com.spt.development.logging.SlowInvocationThreshold;
+import com.spt.development.logging.spring.metrics.LatencyHistogram;
+import com.spt.development.logging.spring.metrics.LatencySnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable details of a logged {@link Method}, such as the logger to log calls to the method with and which of its
+ * parameters should not be logged, along with a {@link LatencyHistogram} of calls to the method. Descriptors are
+ * created the first time a method is called and then cached, so that the reflection required to build them is not
+ * repeated on every call. The cache is associated with the class declaring each method, so that descriptors do not
+ * prevent the class (and its class loader) being unloaded.
+ *
+ * <p>
+ * The histogram of a method is created when the latency of its first call is recorded, so only methods that have been
+ * called take up memory for one; its footprint is fixed (around 7KB, plus the same again for each additional stripe
+ * added when threads contend to record latencies, up to one per processor). The latencies of all the methods called,
+ * for example to find the slowest, are available from {@link #latencySnapshots()}.
+ * </p>
+ */
+public final class InvocationDescriptor {
+    private static final ClassValue<Map<Method, InvocationDescriptor>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected Map<Method, InvocationDescriptor> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    // Weakly referenced, so that the descriptors of classes that are unloaded are removed
+    private static final Map<InvocationDescriptor, Boolean> RECORDING = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Method method;
+    private final Logger logger;
+    private final String displayName;
+    private final int parameterCount;
+    private final long[] notLoggedParameters;
+    private final boolean voidReturnType;
+    private final long slowInvocationThresholdNanos;
+    private volatile LatencyHistogram latencyHistogram;
+
+    // Whether calls to the method are switched on, cached per aspect by the LoggingSwitchboard (if any) until its rules change
+    volatile LoggingSwitchboard.SwitchState[] switchStates = LoggingSwitchboard.SwitchState.NONE;
+
+    private InvocationDescriptor(final Method method) {
+        final Class<?> declaringClass = method.getDeclaringClass();
+
+        this.method = method;
+        this.logger = LoggerFactory.getLogger(declaringClass);
+        this.displayName = declaringClass.getSimpleName() + "." + method.getName();
+        this.parameterCount = method.getParameterCount();
+        this.notLoggedParameters = notLoggedParameters(method.getParameterAnnotations());
+        this.voidReturnType = method.getReturnType().equals(void.class);
+        this.slowInvocationThresholdNanos = slowInvocationThresholdNanos(method);
+    }
+
+    /**
+     * Gets the descriptor for the given method, creating and caching it if this is the first time the method has been
+     * called.
+     *
+     * @param method the method being logged.
+     *
+     * @return the (cached) descriptor of the method.
+     */
+    public static InvocationDescriptor of(final Method method) {
+        final Map<Method, InvocationDescriptor> descriptors = DESCRIPTORS.get(method.getDeclaringClass());
+        final InvocationDescriptor descriptor = descriptors.get(method);
+
+        return descriptor != null ? descriptor : descriptors.computeIfAbsent(method, InvocationDescriptor::new);
+    }
+
+    private static long slowInvocationThresholdNanos(Method method) {
+        SlowInvocationThreshold threshold = method.getAnnotation(SlowInvocationThreshold.class);
+
+        if (threshold == null) {
+            threshold = method.getDeclaringClass().getAnnotation(SlowInvocationThreshold.class);
+        }
+        return threshold != null ? threshold.unit().toNanos(threshold.value()) : -1L;
+    }
+
+    private static long[] notLoggedParameters(Annotation[][] parameterAnnotations) {
+        final long[] bitmap = new long[(parameterAnnotations.length + Long.SIZE - 1) / Long.SIZE];
+
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof NoLogging) {
+                    bitmap[i / Long.SIZE] |= 1L << i;
+                    break;
+                }
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * Gets the method described.
+     *
+     * @return the method.
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets the logger for the class declaring the method.
+     *
+     * @return the logger to log calls to the method with.
+     */
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Gets the name of the method, qualified with the simple name of the class that declares it, for example
+     * <code>MyService.read</code>.
+     *
+     * @return the name of the method to include in log statements.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the number of parameters of the method.
+     *
+     * @return the number of parameters.
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Determines whether the parameter at the given index is annotated with {@link NoLogging} and therefore must not
+     * be logged.
+     *
+     * @param index the index of the parameter.
+     *
+     * @return <code>true</code> if the parameter must not be logged, otherwise <code>false</code>.
+     */
+    public boolean isParameterNotLogged(final int index) {
+        return (notLoggedParameters[index / Long.SIZE] & (1L << index)) != 0;
+    }
+
+    /**
+     * Determines whether the method has a <code>void</code> return type.
+     *
+     * @return <code>true</code> if the method returns <code>void</code>, otherwise <code>false</code>.
+     */
+    public boolean isVoidReturnType() {
+        return voidReturnType;
+    }
+
+    /**
+     * Gets the threshold above which calls to the method are logged as slow, if overridden for the method (or the
+     * class declaring it) with the {@link SlowInvocationThreshold} annotation.
+     *
+     * @return the threshold in nanoseconds, or <code>-1</code> if the threshold is not overridden.
+     */
+    public long getSlowInvocationThresholdNanos() {
+        return slowInvocationThresholdNanos;
+    }
+
+    /**
+     * Gets the histogram that the latencies of calls to the method are recorded in, creating it if no latencies have
+     * been recorded yet.
+     *
+     * @return the latency histogram.
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        LatencyHistogram histogram = latencyHistogram;
+
+        if (histogram == null) {
+            synchronized (this) {
+                histogram = latencyHistogram;
+
+                if (histogram == null) {
+                    histogram = new LatencyHistogram();
+                    latencyHistogram = histogram;
+
+                    RECORDING.put(this, Boolean.TRUE);
+                }
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * Records the latency of a call to the method.
+     *
+     * @param elapsedNanos the time taken for the method call to complete, in nanoseconds.
+     */
+    public void recordLatency(final long elapsedNanos) {
+        getLatencyHistogram().record(elapsedNanos);
+    }
+
+    /**
+     * Takes snapshots of the latencies recorded for every method that has been called, for example to find the
+     * methods that are slowest or called most often.
+     *
+     * @return an unmodifiable map of latency snapshots, keyed on method.
+     */
+    public static Map<Method, LatencySnapshot> latencySnapshots() {
+        final List<InvocationDescriptor> descriptors;
+
+        synchronized (RECORDING) {
+            descriptors = new ArrayList<>(RECORDING.keySet());
+        }
+        final Map<Method, LatencySnapshot> snapshots = new HashMap<>();
+
+        for (InvocationDescriptor descriptor : descriptors) {
+            snapshots.put(descriptor.method, descriptor.latencyHistogram.snapshot());
+        }
+        return Collections.unmodifiableMap(snapshots);
+    }
+}
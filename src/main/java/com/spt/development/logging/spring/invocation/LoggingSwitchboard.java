@@ -0,0 +1,267 @@
+package com.spt.development.logging.spring.invocation;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Enables or disables the logging of method calls at runtime, by aspect type, package, class or method; for example,
+ * to log the calls to a single repository during an incident. Where more than one rule applies to a method, the most
+ * specific wins: a rule for the method takes precedence over one for its class, which takes precedence over one for
+ * the longest matching package, which takes precedence over one for the aspect. Calls are logged if no rule applies.
+ * Set on each of the aspects to be controlled with <code>setSwitchboard</code>; calls that are switched off are not
+ * intercepted by the aspect at all, so are neither logged nor timed.
+ *
+ * <p>
+ * Rules are changed by publishing a new immutable snapshot of them. Whether a method is switched on is resolved
+ * against the snapshot the first time the method is called by each aspect after each change and then cached, per
+ * aspect, in its {@link InvocationDescriptor}, so that checking it is a few reads, without locking or lookups in the
+ * rules.
+ * </p>
+ */
+public final class LoggingSwitchboard {
+    private static final AtomicReferenceFieldUpdater<InvocationDescriptor, SwitchState[]> SWITCH_STATES =
+        AtomicReferenceFieldUpdater.newUpdater(InvocationDescriptor.class, SwitchState[].class, "switchStates");
+
+    private final Object lock = new Object();
+
+    private volatile Rules rules = new Rules(
+        Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap()
+    );
+
+    /**
+     * Switches on logging of the calls to methods within the given scope.
+     *
+     * @param scope the aspect, package, class or method to switch on logging for.
+     */
+    public void enable(final Scope scope) {
+        update(scope, Boolean.TRUE);
+    }
+
+    /**
+     * Switches off logging of the calls to methods within the given scope.
+     *
+     * @param scope the aspect, package, class or method to switch off logging for.
+     */
+    public void disable(final Scope scope) {
+        update(scope, Boolean.FALSE);
+    }
+
+    /**
+     * Removes the rule for the given scope, if there is one, so that its methods are logged according to any less
+     * specific rules.
+     *
+     * @param scope the aspect, package, class or method to remove the rule for.
+     */
+    public void clear(final Scope scope) {
+        update(scope, null);
+    }
+
+    /**
+     * Removes all the rules, so that all calls are logged.
+     */
+    public void clearAll() {
+        synchronized (lock) {
+            rules = new Rules(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap());
+        }
+    }
+
+    private void update(final Scope scope, final Boolean enabled) {
+        synchronized (lock) {
+            final Rules current = rules;
+
+            rules = new Rules(
+                updated(current.aspects, scope, Scope.Kind.ASPECT, enabled),
+                updated(current.packages, scope, Scope.Kind.PACKAGE, enabled),
+                updated(current.classes, scope, Scope.Kind.CLASS, enabled),
+                updated(current.methods, scope, Scope.Kind.METHOD, enabled)
+            );
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K> Map<K, Boolean> updated(final Map<K, Boolean> rules, final Scope scope, final Scope.Kind kind, final Boolean enabled) {
+        if (scope.kind != kind) {
+            return rules;
+        }
+        final Map<K, Boolean> updated = new HashMap<>(rules);
+
+        if (enabled != null) {
+            updated.put((K) scope.key, enabled);
+        } else {
+            updated.remove(scope.key);
+        }
+        return Collections.unmodifiableMap(updated);
+    }
+
+    /**
+     * Determines whether calls to the given method are switched on for the given aspect.
+     *
+     * @param aspectType the class of the aspect intercepting the call.
+     * @param descriptor the descriptor of the method called.
+     *
+     * @return <code>true</code> if the call should be logged, otherwise <code>false</code>.
+     */
+    public boolean isEnabled(final Class<?> aspectType, final InvocationDescriptor descriptor) {
+        final Rules current = rules;
+
+        for (SwitchState state : descriptor.switchStates) {
+            if (state.aspectType == aspectType) {
+                if (state.rules == current) {
+                    return state.enabled;
+                }
+                break;
+            }
+        }
+        final boolean enabled = current.isEnabled(aspectType, descriptor.getMethod());
+
+        cache(descriptor, new SwitchState(current, aspectType, enabled));
+
+        return enabled;
+    }
+
+    private static void cache(final InvocationDescriptor descriptor, final SwitchState state) {
+        SwitchState[] states;
+        SwitchState[] updated;
+
+        do {
+            states = descriptor.switchStates;
+            updated = null;
+
+            for (int i = 0; i < states.length && updated == null; i++) {
+                if (states[i].aspectType == state.aspectType) {
+                    updated = states.clone();
+                    updated[i] = state;
+                }
+            }
+            if (updated == null) {
+                updated = Arrays.copyOf(states, states.length + 1);
+                updated[states.length] = state;
+            }
+        } while (!SWITCH_STATES.compareAndSet(descriptor, states, updated));
+    }
+
+    /**
+     * The methods that a rule applies to.
+     */
+    public static final class Scope {
+        private enum Kind { ASPECT, PACKAGE, CLASS, METHOD }
+
+        private final Kind kind;
+        private final Object key;
+
+        private Scope(final Kind kind, final Object key) {
+            this.kind = kind;
+            this.key = Objects.requireNonNull(key);
+        }
+
+        /**
+         * Creates a scope of all the methods intercepted by the given type of aspect, for example
+         * <code>RepositoryLogger.class</code>.
+         *
+         * @param aspectType the class of the aspect.
+         *
+         * @return the scope.
+         */
+        public static Scope aspect(final Class<?> aspectType) {
+            return new Scope(Kind.ASPECT, aspectType);
+        }
+
+        /**
+         * Creates a scope of all the methods of the classes in the given package and its sub-packages.
+         *
+         * @param packageName the name of the package, for example <code>com.example.orders</code>.
+         *
+         * @return the scope.
+         */
+        public static Scope packagePrefix(final String packageName) {
+            return new Scope(Kind.PACKAGE, packageName);
+        }
+
+        /**
+         * Creates a scope of all the methods declared by the given class.
+         *
+         * @param type the class.
+         *
+         * @return the scope.
+         */
+        public static Scope type(final Class<?> type) {
+            return new Scope(Kind.CLASS, type);
+        }
+
+        /**
+         * Creates a scope of a single method.
+         *
+         * @param method the method.
+         *
+         * @return the scope.
+         */
+        public static Scope method(final Method method) {
+            return new Scope(Kind.METHOD, method);
+        }
+    }
+
+    private static final class Rules {
+        private final Map<Class<?>, Boolean> aspects;
+        private final Map<String, Boolean> packages;
+        private final Map<Class<?>, Boolean> classes;
+        private final Map<Method, Boolean> methods;
+
+        private Rules(final Map<Class<?>, Boolean> aspects, final Map<String, Boolean> packages,
+                      final Map<Class<?>, Boolean> classes, final Map<Method, Boolean> methods) {
+            this.aspects = aspects;
+            this.packages = packages;
+            this.classes = classes;
+            this.methods = methods;
+        }
+
+        private boolean isEnabled(final Class<?> aspectType, final Method method) {
+            Boolean enabled = methods.get(method);
+
+            if (enabled == null) {
+                enabled = classes.get(method.getDeclaringClass());
+            }
+            if (enabled == null) {
+                enabled = packageRule(method.getDeclaringClass().getPackageName());
+            }
+            for (Class<?> type = aspectType; enabled == null && type != null; type = type.getSuperclass()) {
+                enabled = aspects.get(type);
+            }
+            return enabled == null || enabled;
+        }
+
+        private Boolean packageRule(final String packageName) {
+            Boolean enabled = null;
+            int matchedLength = -1;
+
+            for (Map.Entry<String, Boolean> rule : packages.entrySet()) {
+                final String prefix = rule.getKey();
+
+                if (prefix.length() > matchedLength && packageName.startsWith(prefix)
+                    && (packageName.length() == prefix.length() || packageName.charAt(prefix.length()) == '.')) {
+                    enabled = rule.getValue();
+                    matchedLength = prefix.length();
+                }
+            }
+            return enabled;
+        }
+    }
+
+    static final class SwitchState {
+        static final SwitchState[] NONE = new SwitchState[0];
+
+        private final Rules rules;
+        private final Class<?> aspectType;
+        private final boolean enabled;
+
+        private SwitchState(final Rules rules, final Class<?> aspectType, final boolean enabled) {
+            this.rules = rules;
+            this.aspectType = aspectType;
+            this.enabled = enabled;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.spt.development.logging.spring.metrics;
+
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+
+/**
+ * Receives the outcome of every method call intercepted by the logging aspects, in order to record metrics such as
+ * timers and counters, without having to parse the log statements. Implementations must be thread-safe and should be
+ * cheap, as they are called on the same thread as the method logged; see {@link MicrometerInvocationMetricsSink} for
+ * an implementation that records metrics with Micrometer. For methods returning a Reactor <code>Mono</code> or
+ * <code>Flux</code>, the outcome is reported when the result completes, on the thread that it completes on.
+ */
+public interface InvocationMetricsSink {
+
+    /**
+     * Called before the logged method is called.
+     *
+     * @param descriptor the descriptor of the method called.
+     */
+    default void onStart(InvocationDescriptor descriptor) {
+    }
+
+    /**
+     * Called after the logged method returns without exception.
+     *
+     * @param descriptor the descriptor of the method called.
+     * @param elapsedNanos the time taken for the method to return, in nanoseconds.
+     */
+    default void onSuccess(InvocationDescriptor descriptor, long elapsedNanos) {
+    }
+
+    /**
+     * Called when a reactive result of the logged method that emits a number of elements (for example a Reactor
+     * <code>Flux</code>) completes, before {@link #onSuccess(InvocationDescriptor, long)}.
+     *
+     * @param descriptor the descriptor of the method called.
+     * @param elements the number of elements emitted.
+     */
+    default void onElements(InvocationDescriptor descriptor, long elements) {
+    }
+
+    /**
+     * Called after the logged method throws an exception.
+     *
+     * @param descriptor the descriptor of the method called.
+     * @param elapsedNanos the time taken for the method to throw the exception, in nanoseconds.
+     * @param t the exception thrown.
+     */
+    default void onFailure(InvocationDescriptor descriptor, long elapsedNanos, Throwable t) {
+    }
+
+    /**
+     * Called when the subscriber to the reactive result of the logged method (for example a Reactor
+     * <code>Mono</code> or <code>Flux</code>) cancels its subscription, before the result completes.
+     *
+     * @param descriptor the descriptor of the method called.
+     * @param elapsedNanos the time taken from calling the method to the subscription being cancelled, in nanoseconds.
+     */
+    default void onCancel(InvocationDescriptor descriptor, long elapsedNanos) {
+    }
+}
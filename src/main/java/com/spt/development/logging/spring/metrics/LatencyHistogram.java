@@ -0,0 +1,154 @@
+package com.spt.development.logging.spring.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free histogram of method call latencies, with microsecond resolution and a fixed memory footprint. Latencies are
+ * counted in log-linear buckets, in the style of <a href="https://github.com/HdrHistogram/HdrHistogram">HdrHistogram</a>;
+ * latencies below {@value #SUB_BUCKET_COUNT}&micro;s are counted exactly, larger latencies are counted in buckets with
+ * a relative width of at most 1/{@value #SUB_BUCKET_COUNT} (approximately 3%). Latencies longer than
+ * 2<sup>{@value #MAX_MAGNITUDE}</sup>&micro;s (over an hour) are counted in the largest bucket, but the maximum latency
+ * is always recorded exactly.
+ *
+ * <p>
+ * Latencies are counted in a single stripe of buckets until threads contend to record them, at which point further
+ * stripes are added (up to the number of available processors), in the style of {@link java.util.concurrent.atomic.LongAdder},
+ * so that concurrent calls to {@link #record(long)} rarely write to the same buckets.
+ * </p>
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 32;
+    private static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+    // Each stripe holds the maximum latency it has recorded after its buckets
+    private static final int MAX_INDEX = BUCKET_COUNT;
+    private static final int MAX_STRIPES = maxStripes(Runtime.getRuntime().availableProcessors());
+
+    private static final double P50 = 0.5;
+    private static final double P90 = 0.9;
+    private static final double P99 = 0.99;
+    private static final double P999 = 0.999;
+
+    private final AtomicReference<AtomicLongArray[]> stripes = new AtomicReference<>(
+        new AtomicLongArray[] { new AtomicLongArray(BUCKET_COUNT + 1) }
+    );
+
+    /**
+     * Records the latency of a single method call.
+     *
+     * @param elapsedNanos the time taken for the method call to complete, in nanoseconds.
+     */
+    public void record(final long elapsedNanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0L, elapsedNanos));
+        final int index = bucketIndex(micros);
+        final AtomicLongArray[] current = stripes.get();
+        final AtomicLongArray stripe = current[System.identityHashCode(Thread.currentThread()) & (current.length - 1)];
+        final long count = stripe.get(index);
+
+        if (!stripe.compareAndSet(index, count, count + 1)) {
+            stripe.incrementAndGet(index);
+            expand(current);
+        }
+        long currentMax = stripe.get(MAX_INDEX);
+
+        while (micros > currentMax && !stripe.compareAndSet(MAX_INDEX, currentMax, micros)) {
+            currentMax = stripe.get(MAX_INDEX);
+        }
+    }
+
+    private void expand(final AtomicLongArray[] current) {
+        if (current.length >= MAX_STRIPES) {
+            return;
+        }
+        final AtomicLongArray[] expanded = Arrays.copyOf(current, current.length << 1);
+
+        for (int i = current.length; i < expanded.length; i++) {
+            expanded[i] = new AtomicLongArray(BUCKET_COUNT + 1);
+        }
+        // If another thread has already expanded the stripes, its expansion is kept
+        stripes.compareAndSet(current, expanded);
+    }
+
+    /**
+     * Takes a snapshot of the latencies recorded so far. The snapshot is not atomic with respect to concurrent calls
+     * to {@link #record(long)}, so may not include latencies recorded while the snapshot is being taken.
+     *
+     * @return the snapshot.
+     */
+    public LatencySnapshot snapshot() {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        long maxMicros = 0;
+
+        for (AtomicLongArray stripe : stripes.get()) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                final long stripeCount = stripe.get(i);
+
+                snapshot[i] += stripeCount;
+                count += stripeCount;
+            }
+            maxMicros = Math.max(maxMicros, stripe.get(MAX_INDEX));
+        }
+
+        return new LatencySnapshot(
+            count,
+            percentile(snapshot, count, maxMicros, P50),
+            percentile(snapshot, count, maxMicros, P90),
+            percentile(snapshot, count, maxMicros, P99),
+            percentile(snapshot, count, maxMicros, P999),
+            maxMicros
+        );
+    }
+
+    private static long percentile(long[] snapshot, long count, long maxMicros, double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+        long seen = 0;
+
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+
+            if (seen >= rank) {
+                // The largest bucket also counts all latencies that are too long to be counted by any other bucket
+                return i == snapshot.length - 1 ? maxMicros : Math.min(highestValueInBucket(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    static int maxStripes(final int processors) {
+        // The smallest power of two not less than the number of processors, so that stripes can be selected with a mask
+        return processors <= 1 ? 1 : Integer.highestOneBit(processors - 1) << 1;
+    }
+
+    static int bucketIndex(final long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        final int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+
+        if (magnitude >= MAX_MAGNITUDE) {
+            return BUCKET_COUNT - 1;
+        }
+        final int shift = magnitude - SUB_BUCKET_BITS;
+        final int subBucket = (int) (micros >>> shift) - SUB_BUCKET_COUNT;
+
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueInBucket(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long lowestValue = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+
+        return lowestValue + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,81 @@
+package com.spt.development.logging.spring.metrics;
+
+/**
+ * Immutable snapshot of the latencies recorded by a {@link LatencyHistogram}. All latencies are in microseconds.
+ */
+public final class LatencySnapshot {
+    private final long count;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+    private final long max;
+
+    LatencySnapshot(long count, long p50, long p90, long p99, long p999, long max) {
+        this.count = count;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    /**
+     * Gets the number of method calls recorded.
+     *
+     * @return the number of calls.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the median latency.
+     *
+     * @return the 50th percentile latency in microseconds.
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Gets the 90th percentile latency.
+     *
+     * @return the 90th percentile latency in microseconds.
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * Gets the 99th percentile latency.
+     *
+     * @return the 99th percentile latency in microseconds.
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * Gets the 99.9th percentile latency.
+     *
+     * @return the 99.9th percentile latency in microseconds.
+     */
+    public long getP999() {
+        return p999;
+    }
+
+    /**
+     * Gets the maximum latency.
+     *
+     * @return the maximum latency in microseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", p50=" + p50 + "us, p90=" + p90 + "us, p99=" + p99 + "us, p999=" + p999 + "us, max=" + max + "us";
+    }
+}
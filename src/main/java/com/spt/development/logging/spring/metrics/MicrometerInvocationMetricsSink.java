@@ -0,0 +1,172 @@
+package com.spt.development.logging.spring.metrics;
+
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link InvocationMetricsSink} that records a Micrometer {@link Timer} of the calls to each logged method, tagged with
+ * the <code>class</code>, <code>method</code>, <code>outcome</code> (<code>SUCCESS</code>, <code>FAILURE</code> or
+ * <code>CANCELLED</code>) and <code>exception</code> (simple class name of the exception thrown, or <code>none</code>),
+ * along with a {@link Counter} of the exceptions thrown by each method and a {@link DistributionSummary} of the number
+ * of elements emitted by each method returning a Reactor <code>Flux</code>. Meters are registered the first time they are
+ * needed and then cached, so recording a call does not allocate. Requires <code>io.micrometer:micrometer-core</code>
+ * to be on the classpath.
+ */
+public class MicrometerInvocationMetricsSink implements InvocationMetricsSink {
+    /**
+     * The default name of the timer of method calls.
+     */
+    public static final String DEFAULT_TIMER_NAME = "spt.method.invocations";
+
+    /**
+     * The default name of the counter of exceptions thrown by method calls.
+     */
+    public static final String DEFAULT_EXCEPTION_COUNTER_NAME = "spt.method.exceptions";
+
+    /**
+     * The default name of the distribution summary of the number of elements emitted by method calls.
+     */
+    public static final String DEFAULT_ELEMENTS_SUMMARY_NAME = "spt.method.elements";
+
+    private static final String CLASS_TAG = "class";
+    private static final String METHOD_TAG = "method";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String EXCEPTION_TAG = "exception";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry registry;
+    private final String timerName;
+    private final String exceptionCounterName;
+    private final String elementsSummaryName;
+    private final Map<InvocationDescriptor, DistributionSummary> elementsSummaries = new ConcurrentHashMap<>();
+    private final Map<InvocationDescriptor, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<InvocationDescriptor, Timer> cancelTimers = new ConcurrentHashMap<>();
+    private final Map<InvocationDescriptor, Map<Class<?>, FailureMeters>> failureMeters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new sink, recording metrics with the default names; {@value #DEFAULT_TIMER_NAME},
+     * {@value #DEFAULT_EXCEPTION_COUNTER_NAME} and {@value #DEFAULT_ELEMENTS_SUMMARY_NAME}.
+     *
+     * @param registry the registry to register the meters with.
+     */
+    public MicrometerInvocationMetricsSink(final MeterRegistry registry) {
+        this(registry, DEFAULT_TIMER_NAME, DEFAULT_EXCEPTION_COUNTER_NAME);
+    }
+
+    /**
+     * Creates a new sink.
+     *
+     * @param registry the registry to register the meters with.
+     * @param timerName the name of the timer of method calls.
+     * @param exceptionCounterName the name of the counter of exceptions thrown by method calls.
+     */
+    public MicrometerInvocationMetricsSink(final MeterRegistry registry, final String timerName, final String exceptionCounterName) {
+        this(registry, timerName, exceptionCounterName, DEFAULT_ELEMENTS_SUMMARY_NAME);
+    }
+
+    /**
+     * Creates a new sink.
+     *
+     * @param registry the registry to register the meters with.
+     * @param timerName the name of the timer of method calls.
+     * @param exceptionCounterName the name of the counter of exceptions thrown by method calls.
+     * @param elementsSummaryName the name of the distribution summary of the number of elements emitted by method calls.
+     */
+    public MicrometerInvocationMetricsSink(final MeterRegistry registry, final String timerName, final String exceptionCounterName,
+                                           final String elementsSummaryName) {
+        this.registry = registry;
+        this.timerName = timerName;
+        this.exceptionCounterName = exceptionCounterName;
+        this.elementsSummaryName = elementsSummaryName;
+    }
+
+    @Override
+    public void onElements(InvocationDescriptor descriptor, long elements) {
+        DistributionSummary summary = elementsSummaries.get(descriptor);
+
+        if (summary == null) {
+            summary = elementsSummaries.computeIfAbsent(descriptor, d -> DistributionSummary.builder(elementsSummaryName)
+                .description("Elements emitted by the results of logged methods")
+                .tag(CLASS_TAG, d.getMethod().getDeclaringClass().getName())
+                .tag(METHOD_TAG, d.getMethod().getName())
+                .register(registry));
+        }
+        summary.record(elements);
+    }
+
+    @Override
+    public void onSuccess(InvocationDescriptor descriptor, long elapsedNanos) {
+        Timer timer = successTimers.get(descriptor);
+
+        if (timer == null) {
+            timer = successTimers.computeIfAbsent(descriptor, d -> timer(d, "SUCCESS", NO_EXCEPTION));
+        }
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onFailure(InvocationDescriptor descriptor, long elapsedNanos, Throwable t) {
+        Map<Class<?>, FailureMeters> meters = failureMeters.get(descriptor);
+
+        if (meters == null) {
+            meters = failureMeters.computeIfAbsent(descriptor, d -> new ConcurrentHashMap<>());
+        }
+
+        FailureMeters exceptionMeters = meters.get(t.getClass());
+
+        if (exceptionMeters == null) {
+            exceptionMeters = meters.computeIfAbsent(t.getClass(), c -> new FailureMeters(
+                timer(descriptor, "FAILURE", c.getSimpleName()),
+                Counter.builder(exceptionCounterName)
+                    .description("Exceptions thrown by logged methods")
+                    .tags(tags(descriptor, c.getSimpleName()))
+                    .register(registry)
+            ));
+        }
+        exceptionMeters.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        exceptionMeters.counter.increment();
+    }
+
+    @Override
+    public void onCancel(InvocationDescriptor descriptor, long elapsedNanos) {
+        Timer timer = cancelTimers.get(descriptor);
+
+        if (timer == null) {
+            timer = cancelTimers.computeIfAbsent(descriptor, d -> timer(d, "CANCELLED", NO_EXCEPTION));
+        }
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(InvocationDescriptor descriptor, String outcome, String exception) {
+        return Timer.builder(timerName)
+            .description("Calls to logged methods")
+            .tags(tags(descriptor, exception))
+            .tag(OUTCOME_TAG, outcome)
+            .register(registry);
+    }
+
+    private static String[] tags(InvocationDescriptor descriptor, String exception) {
+        return new String[] {
+            CLASS_TAG, descriptor.getMethod().getDeclaringClass().getName(),
+            METHOD_TAG, descriptor.getMethod().getName(),
+            EXCEPTION_TAG, exception
+        };
+    }
+
+    private static final class FailureMeters {
+        private final Timer timer;
+        private final Counter counter;
+
+        private FailureMeters(Timer timer, Counter counter) {
+            this.timer = timer;
+            this.counter = counter;
+        }
+    }
+}
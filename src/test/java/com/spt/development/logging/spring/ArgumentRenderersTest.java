@@ -0,0 +1,106 @@
+package com.spt.development.logging.spring;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+import java.io.ByteArrayInputStream;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+
+import static com.spt.development.logging.spring.LoggerUtil.formatArgs;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ArgumentRenderersTest {
+    private static final class TestData {
+        static final long ENTITY_ID = 42L;
+        static final String PRINCIPAL_NAME = "bob";
+    }
+
+    @Test
+    void rendererFor_registeredType_shouldReturnRenderer() {
+        final ArgumentRenderer<Entity> renderer = ArgumentRenderer.of(Entity.class, (entity, sb) -> sb.append("Entity#").append(entity.id));
+
+        ArgumentRenderers.register(renderer);
+
+        assertThat(ArgumentRenderers.rendererFor(Entity.class), is(sameInstance(renderer)));
+    }
+
+    @Test
+    void rendererFor_subtypeOfRegisteredType_shouldReturnMostSpecificRenderer() {
+        final ArgumentRenderer<Animal> animalRenderer = ArgumentRenderer.of(Animal.class, (animal, sb) -> sb.append("Animal"));
+        final ArgumentRenderer<Dog> dogRenderer = ArgumentRenderer.of(Dog.class, (dog, sb) -> sb.append("Dog"));
+
+        ArgumentRenderers.register(dogRenderer);
+        ArgumentRenderers.register(animalRenderer);
+
+        assertThat(ArgumentRenderers.rendererFor(Puppy.class), is(sameInstance(dogRenderer)));
+        assertThat(ArgumentRenderers.rendererFor(Cat.class), is(sameInstance(animalRenderer)));
+    }
+
+    @Test
+    void rendererFor_typeWithoutRenderer_shouldReturnNull() {
+        assertThat(ArgumentRenderers.rendererFor(Unrendered.class), is(nullValue()));
+    }
+
+    @Test
+    void formatArgs_argWithRegisteredRenderer_shouldRenderArgWithRenderer() {
+        ArgumentRenderers.register(ArgumentRenderer.of(Entity.class, (entity, sb) -> sb.append("Entity#").append(entity.id)));
+
+        final String result = formatArgs(new Annotation[][] { {} }, new Object[] { new Entity(TestData.ENTITY_ID) });
+
+        assertThat(result, is("Entity#42"));
+    }
+
+    @Test
+    void formatArgs_standardTypes_shouldRenderWithStandardRenderers() {
+        final Principal principal = () -> TestData.PRINCIPAL_NAME;
+
+        final String result = formatArgs(
+                new Annotation[][] { {}, {}, {}, {}, {} },
+                new Object[] {
+                    new ByteArrayInputStream(new byte[0]),
+                    principal,
+                    String.class,
+                    new BeanPropertyBindingResult(new Object(), "order"),
+                    new MockMultipartFile("file", "test.txt", "text/plain", "test".getBytes(StandardCharsets.UTF_8))
+                }
+        );
+
+        assertThat(result, is(
+            "ByteArrayInputStream, bob, java.lang.String, order[0 errors], MultipartFile[name=file, originalFilename=test.txt, size=4]"
+        ));
+    }
+
+    private static final class Entity {
+        private final long id;
+
+        private Entity(long id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            throw new UnsupportedOperationException("Expensive toString should not be called");
+        }
+    }
+
+    private static class Animal {
+    }
+
+    private static class Dog extends Animal {
+    }
+
+    private static final class Puppy extends Dog {
+    }
+
+    private static final class Cat extends Animal {
+    }
+
+    private static final class Unrendered {
+    }
+}
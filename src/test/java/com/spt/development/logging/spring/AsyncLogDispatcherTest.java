@@ -0,0 +1,119 @@
+package com.spt.development.logging.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AsyncLogDispatcherTest {
+    private static final class TestData {
+        static final String NAME = "test-async";
+        static final int CAPACITY = 2;
+        static final long TIMEOUT_SECONDS = 5;
+    }
+
+    @Test
+    void close_eventsPublished_shouldOutputEventsInOrderOnBackgroundThread() {
+        final List<String> output = new CopyOnWriteArrayList<>();
+        final AsyncLogDispatcher target = new AsyncLogDispatcher(TestData.NAME, TestData.CAPACITY, AsyncLogOverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 10; i++) {
+            final String event = "event" + i;
+
+            target.publish(() -> output.add(event + ":" + Thread.currentThread().getName()));
+        }
+        target.close();
+
+        assertThat(output.size(), is(10));
+        assertThat(output.get(0), is("event0:" + TestData.NAME));
+        assertThat(output.get(9), is("event9:" + TestData.NAME));
+    }
+
+    @Test
+    void publish_fullBufferWithDropPolicy_shouldDropEvent() throws Exception {
+        final CountDownLatch consuming = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AsyncLogDispatcher target = new AsyncLogDispatcher(TestData.NAME, TestData.CAPACITY, AsyncLogOverflowPolicy.DROP);
+
+        target.publish(() -> block(consuming, release));
+        consuming.await(TestData.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        target.publish(() -> { });
+        target.publish(() -> { });
+        target.publish(() -> { });
+
+        release.countDown();
+        target.close();
+
+        assertThat(target.getDroppedCount(), is(1L));
+    }
+
+    @Test
+    void publish_fullBufferWithSynchronousPolicy_shouldOutputEventOnPublishingThread() throws Exception {
+        final CountDownLatch consuming = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> output = new CopyOnWriteArrayList<>();
+        final AsyncLogDispatcher target = new AsyncLogDispatcher(TestData.NAME, TestData.CAPACITY, AsyncLogOverflowPolicy.SYNCHRONOUS);
+
+        target.publish(() -> block(consuming, release));
+        consuming.await(TestData.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        target.publish(() -> { });
+        target.publish(() -> { });
+        target.publish(() -> output.add(Thread.currentThread().getName()));
+
+        release.countDown();
+        target.close();
+
+        assertThat(output, is(List.of(Thread.currentThread().getName())));
+        assertThat(target.getDroppedCount(), is(0L));
+    }
+
+    @Test
+    void publish_closed_shouldOutputEventOnPublishingThread() {
+        final List<String> output = new CopyOnWriteArrayList<>();
+        final AsyncLogDispatcher target = new AsyncLogDispatcher(TestData.NAME, TestData.CAPACITY, AsyncLogOverflowPolicy.DROP);
+
+        target.close();
+        target.publish(() -> output.add(Thread.currentThread().getName()));
+
+        assertThat(output, is(List.of(Thread.currentThread().getName())));
+    }
+
+    @Test
+    void close_eventsPublishedConcurrently_shouldOutputEveryEvent() throws Exception {
+        final List<Integer> output = new CopyOnWriteArrayList<>();
+        final AsyncLogDispatcher target = new AsyncLogDispatcher(TestData.NAME, TestData.CAPACITY, AsyncLogOverflowPolicy.BLOCK);
+        final CountDownLatch publishing = new CountDownLatch(1);
+        final Thread publisher = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                final int event = i;
+
+                target.publish(() -> output.add(event));
+                publishing.countDown();
+            }
+        });
+        publisher.start();
+        publishing.await(TestData.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        target.close();
+        publisher.join(TimeUnit.SECONDS.toMillis(TestData.TIMEOUT_SECONDS));
+
+        assertThat(output.size(), is(10_000));
+    }
+
+    private static void block(CountDownLatch consuming, CountDownLatch release) {
+        consuming.countDown();
+
+        try {
+            release.await(TestData.TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
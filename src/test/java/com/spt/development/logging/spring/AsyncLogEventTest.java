@@ -0,0 +1,98 @@
+package com.spt.development.logging.spring;
+
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.spt.development.test.LogbackUtil.verifyLogging;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AsyncLogEventTest {
+    private static final class TestData {
+        static final String FORMAT = "{}({})";
+        static final String METHOD = "TestTarget.test";
+        static final String ARGUMENT = "Before";
+        static final String OUTPUT_THREAD = "test-output";
+    }
+
+    @Test
+    void run_argumentRenderedLazily_shouldRenderArgumentOnOutputThread() {
+        final List<String> renderedOn = new CopyOnWriteArrayList<>();
+        final Object argument = new Object() {
+            @Override
+            public String toString() {
+                renderedOn.add(Thread.currentThread().getName());
+                return TestData.ARGUMENT;
+            }
+        };
+        final AsyncLogEvent target = new AsyncLogEvent(
+            LoggerFactory.getLogger(AsyncLogEventTest.class), Level.INFO, TestData.FORMAT,
+            new Object[] { TestData.METHOD, argument }, null
+        );
+
+        assertThat(renderedOn.isEmpty(), is(true));
+
+        verifyLogging(
+            AsyncLogEventTest.class,
+            () -> {
+                runOnOutputThread(target);
+                return null;
+            },
+            (logs) -> {
+                assertThat(logs.size(), is(1));
+                assertThat(logs.get(0).getFormattedMessage(), is(TestData.METHOD + "(" + TestData.ARGUMENT + ")"));
+            }
+        );
+        assertThat(renderedOn, is(List.of(TestData.OUTPUT_THREAD)));
+    }
+
+    @Test
+    void run_methodArgumentReplacedAfterCapture_shouldLogArgumentAsCaptured() throws Exception {
+        final Object[] args = { TestData.ARGUMENT };
+        final AsyncLogEvent target = new AsyncLogEvent(
+            LoggerFactory.getLogger(AsyncLogEventTest.class), Level.INFO, TestData.FORMAT,
+            new Object[] {
+                TestData.METHOD,
+                new FormattedArguments(InvocationDescriptor.of(TestTarget.class.getMethod("test", String.class)), args)
+            },
+            null
+        );
+
+        args[0] = "After";
+
+        verifyLogging(
+            AsyncLogEventTest.class,
+            () -> {
+                target.run();
+                return null;
+            },
+            (logs) -> {
+                assertThat(logs.size(), is(1));
+                assertThat(logs.get(0).getFormattedMessage(), is(TestData.METHOD + "('" + TestData.ARGUMENT + "')"));
+            }
+        );
+    }
+
+    private static void runOnOutputThread(Runnable event) {
+        final Thread thread = new Thread(event, TestData.OUTPUT_THREAD);
+
+        thread.start();
+
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class TestTarget {
+        public String test(String arg) {
+            return arg;
+        }
+    }
+}
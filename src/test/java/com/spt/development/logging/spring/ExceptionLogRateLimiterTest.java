@@ -0,0 +1,195 @@
+package com.spt.development.logging.spring;
+
+import com.spt.development.cid.CorrelationId;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExceptionLogRateLimiterTest {
+    private static final class TestData {
+        static final int MAX_LOGGED = 2;
+        static final Duration WINDOW = Duration.ofSeconds(60);
+        static final long START_NANOS = 1_000L;
+        static final String CORRELATION_ID = "e2e4b4b3-4ad8-4c15-8e5b-7f0e7a6d54ac";
+    }
+
+    private final List<String> summaries = new CopyOnWriteArrayList<>();
+    private ExceptionLogRateLimiter target;
+
+    @BeforeEach
+    void setUp() {
+        CorrelationId.set(TestData.CORRELATION_ID);
+
+        target = new ExceptionLogRateLimiter(
+            "test-exception-summary", TestData.MAX_LOGGED, TestData.WINDOW,
+            (descriptor, type, suppressed, seconds, correlationId) -> summaries.add(
+                "[" + correlationId + "] " + descriptor.getDisplayName() + " - suppressed " + suppressed + " x " + type.getName()
+                    + " over " + seconds + "s"
+            )
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.close();
+
+        CorrelationId.reset();
+    }
+
+    @Test
+    void isLogged_withinLimit_shouldReturnTrue() throws Exception {
+        final InvocationDescriptor descriptor = createDescriptor();
+
+        assertThat(target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS), is(true));
+        assertThat(target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS), is(true));
+    }
+
+    @Test
+    void isLogged_limitExceeded_shouldReturnFalse() throws Exception {
+        final InvocationDescriptor descriptor = createDescriptor();
+
+        target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS);
+        target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS);
+
+        assertThat(target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS), is(false));
+    }
+
+    @Test
+    void isLogged_limitExceededForDifferentException_shouldReturnTrue() throws Exception {
+        final InvocationDescriptor descriptor = createDescriptor();
+
+        target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS);
+        target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS);
+        target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS);
+
+        assertThat(target.isLogged(descriptor, IllegalStateException.class, TestData.START_NANOS), is(true));
+    }
+
+    @Test
+    void isLogged_windowEndedAfterSuppression_shouldLogSummaryAndReturnTrue() throws Exception {
+        final InvocationDescriptor descriptor = createDescriptor();
+
+        suppress(descriptor, 3);
+
+        final boolean result = target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS + TestData.WINDOW.toNanos());
+
+        assertThat(result, is(true));
+        assertThat(summaries, is(List.of("[" + TestData.CORRELATION_ID + "] TestTarget.test - suppressed 3 x java.net.SocketTimeoutException over 60s")));
+    }
+
+    @Test
+    void isLogged_windowEndedWithoutSuppression_shouldNotLogSummary() throws Exception {
+        final InvocationDescriptor descriptor = createDescriptor();
+
+        target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS);
+
+        final boolean result = target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS + TestData.WINDOW.toNanos());
+
+        assertThat(result, is(true));
+        assertThat(summaries, is(empty()));
+    }
+
+    @Test
+    void flush_windowEndedAfterSuppression_shouldLogSummaryWithoutFurtherExceptions() throws Exception {
+        final InvocationDescriptor descriptor = createDescriptor();
+
+        suppress(descriptor, 3);
+
+        target.flush(TestData.START_NANOS + TestData.WINDOW.toNanos() - 1);
+
+        assertThat(summaries, is(empty()));
+
+        target.flush(TestData.START_NANOS + TestData.WINDOW.toNanos());
+        target.flush(TestData.START_NANOS + TestData.WINDOW.toNanos() * 2);
+
+        assertThat(summaries, is(List.of("[" + TestData.CORRELATION_ID + "] TestTarget.test - suppressed 3 x java.net.SocketTimeoutException over 60s")));
+    }
+
+    @Test
+    void flush_suppressedByDifferentCalls_shouldLogSummaryWithLastCorrelationId() throws Exception {
+        final InvocationDescriptor descriptor = createDescriptor();
+
+        suppress(descriptor, 2);
+
+        CorrelationId.set("last-suppressed");
+
+        target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS);
+
+        CorrelationId.set("flusher");
+
+        target.flush(TestData.START_NANOS + TestData.WINDOW.toNanos());
+
+        assertThat(summaries, is(List.of("[last-suppressed] TestTarget.test - suppressed 3 x java.net.SocketTimeoutException over 60s")));
+    }
+
+    @Test
+    void flush_windowEndedWithoutExceptions_shouldStopTrackingWindow() throws Exception {
+        final InvocationDescriptor descriptor = createDescriptor();
+
+        target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS);
+        target.isLogged(descriptor, IllegalStateException.class, TestData.START_NANOS + TestData.WINDOW.toNanos());
+
+        target.flush(TestData.START_NANOS + TestData.WINDOW.toNanos());
+
+        assertThat(target.size(), is(2));
+
+        target.flush(TestData.START_NANOS + TestData.WINDOW.toNanos() * 2);
+
+        assertThat(target.size(), is(1));
+
+        target.flush(TestData.START_NANOS + TestData.WINDOW.toNanos() * 3);
+
+        assertThat(target.size(), is(0));
+        assertThat(target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS + TestData.WINDOW.toNanos() * 3), is(true));
+        assertThat(target.size(), is(1));
+        assertThat(summaries, is(empty()));
+    }
+
+    @Test
+    void close_suppressedWithinCurrentWindow_shouldLogSummary() throws Exception {
+        final InvocationDescriptor descriptor = createDescriptor();
+        final long nowNanos = System.nanoTime();
+
+        for (int i = 0; i < TestData.MAX_LOGGED + 1; i++) {
+            target.isLogged(descriptor, SocketTimeoutException.class, nowNanos);
+        }
+
+        target.close();
+
+        assertThat(summaries, is(List.of("[" + TestData.CORRELATION_ID + "] TestTarget.test - suppressed 1 x java.net.SocketTimeoutException over 1s")));
+    }
+
+    @Test
+    void new_windowLessThanOneSecond_shouldThrowException() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new ExceptionLogRateLimiter("test", TestData.MAX_LOGGED, Duration.ofMillis(500), (descriptor, type, suppressed, seconds, correlationId) -> { })
+        );
+    }
+
+    private void suppress(InvocationDescriptor descriptor, int suppressed) {
+        for (int i = 0; i < TestData.MAX_LOGGED + suppressed; i++) {
+            target.isLogged(descriptor, SocketTimeoutException.class, TestData.START_NANOS);
+        }
+    }
+
+    private InvocationDescriptor createDescriptor() throws NoSuchMethodException {
+        return InvocationDescriptor.of(TestTarget.class.getMethod("test"));
+    }
+
+    private static final class TestTarget {
+        public void test() {
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.spt.development.logging.spring;
+
+import com.spt.development.logging.NoLogging;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class FormattedArgumentsTest {
+    @Test
+    void new_validArgs_shouldNotFormatArgs() throws Exception {
+        final CountingArg arg = new CountingArg();
+
+        new FormattedArguments(createDescriptor(), new Object[] { arg, "password" });
+
+        assertThat(arg.count.get(), is(0));
+    }
+
+    @Test
+    void toString_validArgs_shouldFormatArgs() throws Exception {
+        final CountingArg arg = new CountingArg();
+
+        final String result = new FormattedArguments(createDescriptor(), new Object[] { arg, "password" }).toString();
+
+        assertThat(result, is("Counting, ******"));
+        assertThat(arg.count.get(), is(1));
+    }
+
+    private InvocationDescriptor createDescriptor() throws NoSuchMethodException {
+        return InvocationDescriptor.of(TestTarget.class.getMethod("test", Object.class, String.class));
+    }
+
+    private static final class CountingArg {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public String toString() {
+            count.incrementAndGet();
+
+            return "Counting";
+        }
+    }
+
+    private static final class TestTarget {
+        public void test(Object arg, @NoLogging String password) {
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.spt.development.logging.spring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class HibernateLazyProxiesTest {
+    private static final class TestData {
+        static final String ENTITY_NAME = "com.example.Order";
+        static final String ROLE = "com.example.Order.items";
+        static final long ID = 42L;
+    }
+
+    private HibernateLazyProxies target;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Hibernate is not on the test classpath, so test with types that have the same methods
+        target = new HibernateLazyProxies(Proxy.class, LazyCollection.class);
+    }
+
+    @Test
+    void appendIfUninitialized_uninitializedProxy_shouldAppendPlaceholderWithoutInitializing() {
+        final StringBuilder sb = new StringBuilder();
+
+        final boolean result = target.appendIfUninitialized(sb, new OrderProxy(true));
+
+        assertThat(result, is(true));
+        assertThat(sb.toString(), is("Order#42(uninitialized)"));
+    }
+
+    @Test
+    void appendIfUninitialized_initializedProxy_shouldNotAppend() {
+        final StringBuilder sb = new StringBuilder();
+
+        final boolean result = target.appendIfUninitialized(sb, new OrderProxy(false));
+
+        assertThat(result, is(false));
+        assertThat(sb.length(), is(0));
+    }
+
+    @Test
+    void appendIfUninitialized_uninitializedCollection_shouldAppendPlaceholderWithoutInitializing() {
+        final StringBuilder sb = new StringBuilder();
+
+        final boolean result = target.appendIfUninitialized(sb, new PersistentList(false));
+
+        assertThat(result, is(true));
+        assertThat(sb.toString(), is("Order.items(uninitialized)"));
+    }
+
+    @Test
+    void appendIfUninitialized_initializedCollection_shouldNotAppend() {
+        final StringBuilder sb = new StringBuilder();
+
+        final boolean result = target.appendIfUninitialized(sb, new PersistentList(true));
+
+        assertThat(result, is(false));
+        assertThat(sb.length(), is(0));
+    }
+
+    @Test
+    void appendIfUninitialized_otherValue_shouldNotAppend() {
+        final StringBuilder sb = new StringBuilder();
+
+        final boolean result = target.appendIfUninitialized(sb, "value");
+
+        assertThat(result, is(false));
+        assertThat(sb.length(), is(0));
+    }
+
+    public interface Proxy {
+        LazyInitializer getHibernateLazyInitializer();
+    }
+
+    public interface LazyInitializer {
+        boolean isUninitialized();
+
+        String getEntityName();
+
+        Object getIdentifier();
+    }
+
+    public interface LazyCollection {
+        boolean wasInitialized();
+
+        String getRole();
+    }
+
+    public static final class OrderProxy implements Proxy {
+        private final boolean uninitialized;
+
+        private OrderProxy(boolean uninitialized) {
+            this.uninitialized = uninitialized;
+        }
+
+        @Override
+        public LazyInitializer getHibernateLazyInitializer() {
+            return new LazyInitializer() {
+                @Override
+                public boolean isUninitialized() {
+                    return uninitialized;
+                }
+
+                @Override
+                public String getEntityName() {
+                    return TestData.ENTITY_NAME;
+                }
+
+                @Override
+                public Object getIdentifier() {
+                    return TestData.ID;
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            throw new IllegalStateException("Proxy initialized");
+        }
+    }
+
+    public static final class PersistentList extends AbstractList<String> implements LazyCollection {
+        private final boolean initialized;
+
+        private PersistentList(boolean initialized) {
+            this.initialized = initialized;
+        }
+
+        @Override
+        public boolean wasInitialized() {
+            return initialized;
+        }
+
+        @Override
+        public String getRole() {
+            return TestData.ROLE;
+        }
+
+        @Override
+        public String get(int index) {
+            throw new IllegalStateException("Collection initialized");
+        }
+
+        @Override
+        public int size() {
+            throw new IllegalStateException("Collection initialized");
+        }
+    }
+}
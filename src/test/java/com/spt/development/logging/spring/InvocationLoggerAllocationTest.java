@@ -0,0 +1,174 @@
+package com.spt.development.logging.spring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import com.spt.development.cid.CorrelationId;
+import com.spt.development.logging.NoLogging;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures the additional bytes allocated per call to a logged method when DEBUG level logging is enabled, compared to
+ * when it is disabled. Log statements are discarded by a turbo filter once they reach Logback, after the level has
+ * been checked, so that only the allocations made by the logging aspects are measured, not those of Logback itself;
+ * formatting the arguments, which is deferred until a statement is output, is measured separately. The bounds are the
+ * sizes of the objects allocated without escape analysis, so do not depend on the JIT compiler, and each measurement
+ * is the lowest of several rounds, so that allocations made by the JVM itself, such as by the compiler threads being
+ * attributed to a round, do not fail the test.
+ */
+class InvocationLoggerAllocationTest {
+    private static final class TestData {
+        static final String CORRELATION_ID = "7db425f7-ca20-4f95-a97b-7f0c95c92c9a";
+        static final String RESULT = "Success!";
+        static final String ARG1 = "TestArg";
+        static final String ARG2 = "TestArg2";
+        static final int WARM_UP_CALLS = 50_000;
+        static final int MEASURED_CALLS = 100_000;
+        static final int MEASURED_ROUNDS = 5;
+
+        // The message arguments of the start and completion log statements (2 x 32 bytes) and the lazily formatted
+        // arguments and duration (2 x 24 bytes); the correlation ID is added to the arrays when they are created
+        static final long MAX_ENABLED_BYTES_PER_CALL = 112;
+
+        // The formatted String (24 bytes) and its bytes ('TestArg', ****** - 16 + 17 bytes, padded to 40); a new
+        // StringBuilder of the default capacity alone would be 296 bytes
+        static final long MAX_FORMAT_BYTES_PER_CALL = 64;
+    }
+
+    private final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(TestTarget.class);
+
+    private final TurboFilter discardLogStatements = new TurboFilter() {
+        @Override
+        public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+            // Level checks have no format, so are not denied
+            return format != null && logger == InvocationLoggerAllocationTest.this.logger ? FilterReply.DENY : FilterReply.NEUTRAL;
+        }
+    };
+
+    private Level originalLevel;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+
+        CorrelationId.set(TestData.CORRELATION_ID);
+
+        originalLevel = logger.getLevel();
+
+        discardLogStatements.start();
+        logger.getLoggerContext().addTurboFilter(discardLogStatements);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.getLoggerContext().getTurboFilterList().remove(discardLogStatements);
+        logger.setLevel(originalLevel);
+    }
+
+    @Test
+    void invoke_debugEnabled_shouldOnlyAllocateMessageArguments() throws Throwable {
+        final BeanLogger target = new BeanLogger();
+        final MethodInvocation invocation = new TestInvocation(TestTarget.class.getMethod("test", String.class, String.class));
+
+        final long disabledBytesPerCall = bytesPerCall(target, invocation, Level.INFO);
+        final long enabledBytesPerCall = bytesPerCall(target, invocation, Level.DEBUG);
+
+        assertThat(enabledBytesPerCall - disabledBytesPerCall, lessThanOrEqualTo(TestData.MAX_ENABLED_BYTES_PER_CALL));
+    }
+
+    @Test
+    void formatArgs_repeatedCalls_shouldOnlyAllocateFormattedString() throws Throwable {
+        final InvocationDescriptor descriptor = InvocationDescriptor.of(TestTarget.class.getMethod("test", String.class, String.class));
+        final Object[] args = { TestData.ARG1, TestData.ARG2 };
+
+        final long bytesPerCall = bytesPerCall(() -> LoggerUtil.formatArgs(descriptor, args));
+
+        assertThat(bytesPerCall, lessThanOrEqualTo(TestData.MAX_FORMAT_BYTES_PER_CALL));
+    }
+
+    private long bytesPerCall(BeanLogger target, MethodInvocation invocation, Level level) throws Throwable {
+        logger.setLevel(level);
+
+        return bytesPerCall(() -> target.invoke(invocation));
+    }
+
+    private long bytesPerCall(Call call) throws Throwable {
+        for (int i = 0; i < TestData.WARM_UP_CALLS; i++) {
+            call.call();
+        }
+        final long threadId = Thread.currentThread().getId();
+        long minBytesPerCall = Long.MAX_VALUE;
+
+        for (int round = 0; round < TestData.MEASURED_ROUNDS; round++) {
+            final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+
+            for (int i = 0; i < TestData.MEASURED_CALLS; i++) {
+                call.call();
+            }
+            minBytesPerCall = Math.min(minBytesPerCall, (threadMXBean.getThreadAllocatedBytes(threadId) - before) / TestData.MEASURED_CALLS);
+        }
+        return minBytesPerCall;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Object call() throws Throwable;
+    }
+
+    private static final class TestInvocation implements MethodInvocation {
+        private final Method method;
+        private final Object[] arguments = { TestData.ARG1, TestData.ARG2 };
+        private final TestTarget target = new TestTarget();
+
+        private TestInvocation(Method method) {
+            this.method = method;
+        }
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return arguments;
+        }
+
+        @Override
+        public Object proceed() {
+            return target.test(TestData.ARG1, TestData.ARG2);
+        }
+
+        @Override
+        public Object getThis() {
+            return target;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return method;
+        }
+    }
+
+    private static final class TestTarget {
+        public String test(String correlationId, @NoLogging String password) {
+            return TestData.RESULT;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.spt.development.logging.spring;
 
+import ch.qos.logback.classic.Level;
 import com.spt.development.cid.CorrelationId;
 import com.spt.development.logging.NoLogging;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -91,6 +92,33 @@ class JmsListenerLoggerTest {
         );
     }
 
+    @Test
+    void log_summaryLogging_shouldLogSingleLineWithArgumentsWhenMethodCompletes() {
+        final JmsListenerLogger target = createLogger(true);
+
+        target.setSummaryLogging(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint());
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(1));
+
+                    assertThat(logs.get(0).getLevel(), is(Level.INFO));
+                    assertThat(
+                        logs.get(0).getFormattedMessage(),
+                        startsWith("[" + TestData.CORRELATION_ID + "] TestTarget.test('TestArg', ******) - complete in ")
+                    );
+                }
+        );
+    }
+
     private ProceedingJoinPoint createJoinPoint() throws Throwable {
         final Class<TestTarget> target = TestTarget.class;
         final Method method = TestTarget.class.getMethod(TestData.METHOD, String.class, String.class);
@@ -0,0 +1,63 @@
+package com.spt.development.logging.spring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LogEventRingBufferTest {
+    @Test
+    void poll_emptyBuffer_shouldReturnNull() {
+        assertThat(new LogEventRingBuffer<String>(4).poll(), is(nullValue()));
+    }
+
+    @Test
+    void poll_elementsOffered_shouldReturnElementsInOrder() {
+        final LogEventRingBuffer<String> target = new LogEventRingBuffer<>(4);
+
+        target.offer("1");
+        target.offer("2");
+
+        assertThat(target.poll(), is("1"));
+        assertThat(target.poll(), is("2"));
+        assertThat(target.poll(), is(nullValue()));
+    }
+
+    @Test
+    void offer_fullBuffer_shouldReturnFalse() {
+        final LogEventRingBuffer<String> target = new LogEventRingBuffer<>(2);
+
+        assertThat(target.offer("1"), is(true));
+        assertThat(target.offer("2"), is(true));
+        assertThat(target.offer("3"), is(false));
+    }
+
+    @Test
+    void offer_capacityNotPowerOfTwo_shouldRoundUpCapacity() {
+        final LogEventRingBuffer<String> target = new LogEventRingBuffer<>(3);
+
+        assertThat(target.offer("1"), is(true));
+        assertThat(target.offer("2"), is(true));
+        assertThat(target.offer("3"), is(true));
+        assertThat(target.offer("4"), is(true));
+        assertThat(target.offer("5"), is(false));
+    }
+
+    @Test
+    void offer_afterPoll_shouldReuseSlot() {
+        final LogEventRingBuffer<String> target = new LogEventRingBuffer<>(1);
+
+        target.offer("1");
+        target.poll();
+
+        assertThat(target.offer("2"), is(true));
+        assertThat(target.poll(), is("2"));
+    }
+
+    @Test
+    void new_capacityLessThanOne_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> new LogEventRingBuffer<String>(0));
+    }
+}
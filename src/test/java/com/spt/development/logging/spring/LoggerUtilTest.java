@@ -4,12 +4,22 @@ import com.spt.development.logging.NoLogging;
 import org.junit.jupiter.api.Test;
 
 import java.lang.annotation.Annotation;
+import java.util.AbstractCollection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 
 import static com.spt.development.logging.spring.LoggerUtil.MASKED_ARG;
 import static com.spt.development.logging.spring.LoggerUtil.MAX_DEBUG_STR_ARG_LEN;
 import static com.spt.development.logging.spring.LoggerUtil.formatArgs;
+import static com.spt.development.logging.spring.LoggerUtil.formatElapsed;
+import static com.spt.development.logging.spring.LoggerUtil.formatValue;
+import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 class LoggerUtilTest {
@@ -18,6 +28,11 @@ class LoggerUtilTest {
         static final String SHORT_STRING = "Short String";
         static final String MEDIUM_STRING = "String with 75 characters--------------------------------------------------";
         static final String LONG_STRING =   "Very long String with one more character than the maximum (of 75 characters)";
+        static final int LARGE_SIZE = 50_000;
+        static final int MAX_ELEMENTS = 3;
+        static final int MAX_ARGUMENT_LENGTH = 100;
+        static final int MAX_ARGUMENTS_LENGTH = 250;
+        static final RenderLimits LIMITS = new RenderLimits(MAX_ELEMENTS, false, MAX_ARGUMENT_LENGTH, MAX_ARGUMENTS_LENGTH);
     }
 
     @Test
@@ -40,6 +55,32 @@ class LoggerUtilTest {
         assertThat(result, is("'" + TestData.LONG_STRING.substring(0, MAX_DEBUG_STR_ARG_LEN - 3) + "...', '" + TestData.MEDIUM_STRING + "'"));
     }
 
+    @Test
+    void formatArgs_stringArgWithLineBreaks_shouldReplaceLineBreaksWithEscapedNewLine() {
+        final String result = formatArgs(
+                new Annotation[][] { {} },
+                new Object[] { "Line 1\r\nLine 2\rLine 3\nLine 4\n\nLine 6 'quoted'" }
+        );
+
+        assertThat(result, is("'Line 1\\nLine 2\\nLine 3\\nLine 4\\n\\nLine 6 'quoted''"));
+    }
+
+    @Test
+    void formatArgs_stringArgWithLineBreakAtMaxLength_shouldTruncateBeforeReplacingLineBreaks() {
+        final String arg = TestData.LONG_STRING.substring(0, MAX_DEBUG_STR_ARG_LEN - 4) + "\r\n" + TestData.LONG_STRING;
+
+        final String result = formatArgs(new Annotation[][] { {} }, new Object[] { arg });
+
+        assertThat(result, is("'" + TestData.LONG_STRING.substring(0, MAX_DEBUG_STR_ARG_LEN - 4) + "\\n...'"));
+    }
+
+    @Test
+    void formatArgs_nullArg_shouldLogNull() {
+        final String result = formatArgs(new Annotation[][] { {}, {} }, new Object[] { null, TestData.SHORT_STRING });
+
+        assertThat(result, is("null, '" + TestData.SHORT_STRING + "'"));
+    }
+
     @Test
     void formatArgs_argAnnotatedWithNoLogging_shouldNotBeLogged() {
         final String result = formatArgs(
@@ -50,6 +91,158 @@ class LoggerUtilTest {
         assertThat(result, is(MASKED_ARG + ", " + MASKED_ARG));
     }
 
+    @Test
+    void formatArgs_largeCollectionArg_shouldOnlyIterateMaxElements() {
+        final CountingCollection collection = new CountingCollection(TestData.LARGE_SIZE);
+
+        final String result = formatArgs(new Annotation[][] { {} }, new Object[] { collection }, TestData.LIMITS);
+
+        assertThat(result, is("[0, 1, 2, ...(49997 more)]"));
+        assertThat(collection.iterated, is(TestData.MAX_ELEMENTS));
+    }
+
+    @Test
+    void formatArgs_largeArrayArg_shouldRenderMaxElements() {
+        final String result = formatArgs(new Annotation[][] { {} }, new Object[] { new byte[TestData.LARGE_SIZE] }, TestData.LIMITS);
+
+        assertThat(result, is("[0, 0, 0, ...(49997 more)]"));
+    }
+
+    @Test
+    void formatArgs_mapArg_shouldRenderMaxEntries() {
+        final Map<String, Integer> map = new LinkedHashMap<>();
+
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        map.put("d", 4);
+
+        final String result = formatArgs(new Annotation[][] { {} }, new Object[] { map }, TestData.LIMITS);
+
+        assertThat(result, is("{a=1, b=2, c=3, ...(1 more)}"));
+    }
+
+    @Test
+    void formatArgs_collectionOfStrings_shouldRenderStringsAsToStringDoes() {
+        final List<String> list = List.of(TestData.SHORT_STRING, "b");
+
+        final String result = formatArgs(new Annotation[][] { {} }, new Object[] { list }, TestData.LIMITS);
+
+        assertThat(result, is(list.toString()));
+    }
+
+    @Test
+    void formatArgs_sizeOnly_shouldRenderSizesOnly() {
+        final String result = formatArgs(
+                new Annotation[][] { {}, {}, {} },
+                new Object[] { new byte[TestData.LARGE_SIZE], List.of(1, 2), Map.of("a", 1) },
+                new RenderLimits(TestData.MAX_ELEMENTS, true, TestData.MAX_ARGUMENT_LENGTH, TestData.MAX_ARGUMENTS_LENGTH)
+        );
+
+        assertThat(result, is("byte[50000], [2 elements], {1 entries}"));
+    }
+
+    @Test
+    void formatArgs_argExceedingMaxArgumentLength_shouldTruncateArg() {
+        final String result = formatArgs(
+                new Annotation[][] { {}, {} },
+                new Object[] { new LongToString(), TestData.SHORT_STRING },
+                TestData.LIMITS
+        );
+
+        assertThat(result, is("x".repeat(TestData.MAX_ARGUMENT_LENGTH - 3) + "..., '" + TestData.SHORT_STRING + "'"));
+    }
+
+    @Test
+    void formatArgs_argsExceedingMaxArgumentsLength_shouldTruncateArgs() {
+        final String result = formatArgs(
+                new Annotation[][] { {}, {}, {} },
+                new Object[] { new LongToString(), new LongToString(), new LongToString() },
+                TestData.LIMITS
+        );
+
+        assertThat(result.length(), is(TestData.MAX_ARGUMENTS_LENGTH));
+        assertThat(result, endsWith("x..."));
+    }
+
+    @Test
+    void formatValue_longString_shouldTruncateWithoutQuoting() {
+        assertThat(formatValue(TestData.SHORT_STRING, TestData.LIMITS), is(TestData.SHORT_STRING));
+        assertThat(formatValue("x".repeat(TestData.MAX_ARGUMENT_LENGTH + 1), TestData.LIMITS), is("x".repeat(TestData.MAX_ARGUMENT_LENGTH - 3) + "..."));
+    }
+
+    @Test
+    void formatValue_nestedCollections_shouldRenderMaxElementsOfEach() {
+        final String result = formatValue(List.of(List.of(1, 2, 3, 4), new int[] { 5 }), TestData.LIMITS);
+
+        assertThat(result, is("[[1, 2, 3, ...(1 more)], [5]]"));
+    }
+
+    @Test
+    void formatArgs_argFormattingArgsInToString_shouldFormatBothArgs() {
+        final Object reentrant = new Object() {
+            @Override
+            public String toString() {
+                return "<" + formatArgs(new Annotation[][] { {} }, new Object[] { List.of(TestData.SHORT_STRING) }, TestData.LIMITS) + ">";
+            }
+        };
+
+        final String result = formatArgs(new Annotation[][] { {}, {} }, new Object[] { reentrant, 1 });
+
+        assertThat(result, is("<[" + TestData.SHORT_STRING + "]>, 1"));
+    }
+
+    @Test
+    void acquire_builderReleased_shouldReuseBuilder() {
+        final LoggerUtil.ReusableStringBuilder target = new LoggerUtil.ReusableStringBuilder();
+        final StringBuilder first = target.acquire();
+
+        first.append(TestData.SHORT_STRING);
+        target.release(first);
+
+        final StringBuilder result = target.acquire();
+
+        assertThat(result, is(sameInstance(first)));
+        assertThat(result.length(), is(0));
+    }
+
+    @Test
+    void acquire_builderInUse_shouldReturnNewBuilderWithoutReleasingBuilderInUse() {
+        final LoggerUtil.ReusableStringBuilder target = new LoggerUtil.ReusableStringBuilder();
+        final StringBuilder first = target.acquire();
+        final StringBuilder reentrant = target.acquire();
+
+        target.release(reentrant);
+
+        assertThat(reentrant, is(not(sameInstance(first))));
+        assertThat(target.acquire(), is(not(sameInstance(first))));
+
+        target.release(first);
+
+        assertThat(target.acquire(), is(sameInstance(first)));
+    }
+
+    @Test
+    void release_builderGrownBeyondMaxRetainedCapacity_shouldDiscardBuilder() {
+        final LoggerUtil.ReusableStringBuilder target = new LoggerUtil.ReusableStringBuilder();
+        final StringBuilder first = target.acquire();
+
+        first.append(new char[LoggerUtil.ReusableStringBuilder.MAX_RETAINED_CAPACITY + 1]);
+        target.release(first);
+
+        final StringBuilder result = target.acquire();
+
+        assertThat(result, is(not(sameInstance(first))));
+        assertThat(result.capacity(), is(LoggerUtil.ReusableStringBuilder.INITIAL_CAPACITY));
+    }
+
+    @Test
+    void formatElapsed_validNanos_shouldFormatAsMillisToMicrosecondPrecision() {
+        assertThat(formatElapsed(12_034_999L), is("12.034"));
+        assertThat(formatElapsed(999L), is("0.000"));
+        assertThat(formatElapsed(1_500_000_000L), is("1500.000"));
+    }
+
     private static final class TestClass {
         @Override
         public String toString() {
@@ -57,6 +250,42 @@ class LoggerUtilTest {
         }
     }
 
+    private static final class LongToString {
+        @Override
+        public String toString() {
+            return "x".repeat(TestData.MAX_ARGUMENT_LENGTH * 2);
+        }
+    }
+
+    private static final class CountingCollection extends AbstractCollection<Integer> {
+        private final int size;
+        private int iterated;
+
+        private CountingCollection(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return iterated < size;
+                }
+
+                @Override
+                public Integer next() {
+                    return iterated++;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
     private static final class ConcreteNoLogging implements NoLogging {
 
         @Override
@@ -0,0 +1,58 @@
+package com.spt.development.logging.spring;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LoggingAotRuntimeHintsTest {
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+
+        new LoggingAotRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_aspects_shouldRegisterDeclaredMethods() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(LoggerAspect.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints), is(true));
+        assertThat(RuntimeHintsPredicates.reflection().onType(ServiceLogger.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints), is(true));
+        assertThat(RuntimeHintsPredicates.reflection().onType(RestControllerLogger.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_METHODS).test(hints), is(true));
+    }
+
+    @Test
+    void registerHints_hibernateNotPresent_shouldNotRegisterHibernateTypes() {
+        assertThat(hints.reflection().getTypeHint(TypeReference.of(HibernateLazyProxies.PROXY_CLASS_NAME)), nullValue());
+    }
+
+    @Test
+    void registerHints_argumentRendererServiceFile_shouldBeRegistered() {
+        assertThat(
+            RuntimeHintsPredicates.resource().forResource("META-INF/services/" + ArgumentRenderer.class.getName()).test(hints),
+            is(true)
+        );
+    }
+
+    @Test
+    void aotFactories_shouldRegisterRuntimeHintsRegistrar() {
+        assertThat(
+            SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories").load(RuntimeHintsRegistrar.class),
+            hasItem(instanceOf(LoggingAotRuntimeHints.class))
+        );
+    }
+}
@@ -0,0 +1,189 @@
+package com.spt.development.logging.spring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.spt.development.logging.NoLogging;
+import com.spt.development.logging.spring.metrics.InvocationMetricsSink;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AbstractAspectJAdvice;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+
+class NeverLoggedBeanPostProcessorTest {
+    private static final class TestData {
+        static final String RESULT = "Success!";
+    }
+
+    private Level originalLevel;
+
+    @BeforeEach
+    void setUp() {
+        originalLevel = offLogger().getLevel();
+
+        offLogger().setLevel(Level.OFF);
+    }
+
+    @AfterEach
+    void tearDown() {
+        offLogger().setLevel(originalLevel);
+    }
+
+    private static Logger offLogger() {
+        return (Logger) LoggerFactory.getLogger(OffTestTarget.class);
+    }
+
+    @Test
+    void postProcessAfterInitialization_beanWithLoggerOff_shouldNotBeProxied() {
+        try (AnnotationConfigApplicationContext context = createContext(TestConfiguration.class)) {
+            final NeverLoggedBeanPostProcessor target = context.getBean(NeverLoggedBeanPostProcessor.class);
+
+            assertThat(AopUtils.isAopProxy(context.getBean(OffTestTarget.class)), is(false));
+            assertThat(context.getBean(OffTestTarget.class).test(), is(TestData.RESULT));
+            assertThat(target.getSkippedBeans(), hasKey("offTestTarget"));
+            assertThat(target.getSkippedBeans().get("offTestTarget"), containsString(OffTestTarget.class.getName()));
+        }
+    }
+
+    @Test
+    void postProcessAfterInitialization_beanWithLoggerOn_shouldStillBeProxied() {
+        try (AnnotationConfigApplicationContext context = createContext(TestConfiguration.class)) {
+            assertThat(AopUtils.isAopProxy(context.getBean(OnTestTarget.class)), is(true));
+            assertThat(context.getBean(NeverLoggedBeanPostProcessor.class).getSkippedBeans(), hasKey("offTestTarget"));
+            assertThat(context.getBean(NeverLoggedBeanPostProcessor.class).getSkippedBeans().containsKey("onTestTarget"), is(false));
+        }
+    }
+
+    @Test
+    void postProcessAfterInitialization_loggerRecordingMetrics_shouldStillBeProxied() {
+        try (AnnotationConfigApplicationContext context = createContext(MetricsTestConfiguration.class)) {
+            assertThat(AopUtils.isAopProxy(context.getBean(OffTestTarget.class)), is(true));
+            assertThat(context.getBean(NeverLoggedBeanPostProcessor.class).getSkippedBeans(), not(hasKey("offTestTarget")));
+        }
+    }
+
+    @Test
+    void postProcessAfterInitialization_beanWithOtherAdvice_shouldOnlyRemoveLoggingAdvice() {
+        try (AnnotationConfigApplicationContext context = createContext(OtherAdviceTestConfiguration.class)) {
+            final Object bean = context.getBean(OffTestTarget.class);
+
+            assertThat(AopUtils.isAopProxy(bean), is(true));
+            assertThat(Arrays.stream(((Advised) bean).getAdvisors()).anyMatch(a -> isAdviceOf(a, "serviceLogger")), is(false));
+            assertThat(Arrays.stream(((Advised) bean).getAdvisors()).anyMatch(a -> isAdviceOf(a, "otherAspect")), is(true));
+            assertThat(context.getBean(NeverLoggedBeanPostProcessor.class).getSkippedBeans(), hasKey("offTestTarget"));
+        }
+    }
+
+    @Test
+    void serviceLogger_classAnnotatedWithNoLogging_shouldNotBeProxied() {
+        try (AnnotationConfigApplicationContext context = createContext(TestConfiguration.class)) {
+            assertThat(AopUtils.isAopProxy(context.getBean(NotLoggedTestTarget.class)), is(false));
+            assertThat(
+                context.getBean(NeverLoggedBeanPostProcessor.class).getSkippedBeans().get("notLoggedTestTarget"),
+                is("class is annotated with @NoLogging")
+            );
+        }
+    }
+
+    @Test
+    void serviceLogger_classAnnotatedWithNoLoggingWithMetrics_shouldNotBeProxied() {
+        try (AnnotationConfigApplicationContext context = createContext(MetricsTestConfiguration.class)) {
+            assertThat(AopUtils.isAopProxy(context.getBean(NotLoggedTestTarget.class)), is(false));
+        }
+    }
+
+    private static boolean isAdviceOf(Advisor advisor, String aspectName) {
+        return advisor.getAdvice() instanceof AbstractAspectJAdvice
+            && ((AbstractAspectJAdvice) advisor.getAdvice()).getAspectName().equals(aspectName);
+    }
+
+    private static AnnotationConfigApplicationContext createContext(Class<?> configuration) {
+        return new AnnotationConfigApplicationContext(configuration, OffTestTarget.class, OnTestTarget.class, NotLoggedTestTarget.class);
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    static class TestConfiguration {
+        @Bean
+        static NeverLoggedBeanPostProcessor neverLoggedBeanPostProcessor() {
+            return new NeverLoggedBeanPostProcessor();
+        }
+
+        @Bean
+        ServiceLogger serviceLogger() {
+            return new ServiceLogger();
+        }
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    static class MetricsTestConfiguration {
+        @Bean
+        static NeverLoggedBeanPostProcessor neverLoggedBeanPostProcessor() {
+            return new NeverLoggedBeanPostProcessor();
+        }
+
+        @Bean
+        ServiceLogger serviceLogger() {
+            return new ServiceLogger(true, Mockito.mock(InvocationMetricsSink.class));
+        }
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    static class OtherAdviceTestConfiguration extends TestConfiguration {
+        @Bean
+        OtherAspect otherAspect() {
+            return new OtherAspect();
+        }
+    }
+
+    @Aspect
+    static class OtherAspect {
+        @Before("@within(org.springframework.stereotype.Service)")
+        void before() {
+            // Advice that is not logging, so must not be removed
+        }
+    }
+
+    @Service("offTestTarget")
+    public static class OffTestTarget {
+        public String test() {
+            return TestData.RESULT;
+        }
+    }
+
+    @Service("onTestTarget")
+    public static class OnTestTarget {
+        public String test() {
+            return TestData.RESULT;
+        }
+    }
+
+    @NoLogging
+    @Service("notLoggedTestTarget")
+    public static class NotLoggedTestTarget {
+        public String test() {
+            return TestData.RESULT;
+        }
+    }
+}
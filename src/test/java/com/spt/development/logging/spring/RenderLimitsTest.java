@@ -0,0 +1,64 @@
+package com.spt.development.logging.spring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RenderLimitsTest {
+
+    @Test
+    void fromProperties_noProperties_shouldUseDefaults() {
+        final RenderLimits result = RenderLimits.fromProperties(new Properties());
+
+        assertThat(result.getMaxElements(), is(10));
+        assertThat(result.isSizeOnly(), is(false));
+        assertThat(result.getMaxArgumentLength(), is(500));
+        assertThat(result.getMaxArgumentsLength(), is(2000));
+    }
+
+    @Test
+    void fromProperties_validProperties_shouldUseProperties() {
+        final Properties properties = new Properties();
+
+        properties.setProperty(RenderLimits.MAX_ELEMENTS_PROPERTY, "5");
+        properties.setProperty(RenderLimits.SIZE_ONLY_PROPERTY, "true");
+        properties.setProperty(RenderLimits.MAX_ARGUMENT_LENGTH_PROPERTY, " 100 ");
+        properties.setProperty(RenderLimits.MAX_ARGUMENTS_LENGTH_PROPERTY, "400");
+
+        final RenderLimits result = RenderLimits.fromProperties(properties);
+
+        assertThat(result.getMaxElements(), is(5));
+        assertThat(result.isSizeOnly(), is(true));
+        assertThat(result.getMaxArgumentLength(), is(100));
+        assertThat(result.getMaxArgumentsLength(), is(400));
+    }
+
+    @Test
+    void fromProperties_malformedProperty_shouldUseDefaults() {
+        final Properties properties = new Properties();
+
+        properties.setProperty(RenderLimits.MAX_ELEMENTS_PROPERTY, "ten");
+        properties.setProperty(RenderLimits.MAX_ARGUMENT_LENGTH_PROPERTY, "100");
+
+        final RenderLimits result = RenderLimits.fromProperties(properties);
+
+        assertThat(result.getMaxElements(), is(10));
+        assertThat(result.getMaxArgumentLength(), is(500));
+    }
+
+    @Test
+    void fromProperties_invalidLimit_shouldUseDefaults() {
+        final Properties properties = new Properties();
+
+        properties.setProperty(RenderLimits.SIZE_ONLY_PROPERTY, "true");
+        properties.setProperty(RenderLimits.MAX_ARGUMENTS_LENGTH_PROPERTY, "2");
+
+        final RenderLimits result = RenderLimits.fromProperties(properties);
+
+        assertThat(result.isSizeOnly(), is(true));
+        assertThat(result.getMaxArgumentsLength(), is(2000));
+    }
+}
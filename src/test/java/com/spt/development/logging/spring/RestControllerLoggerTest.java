@@ -3,20 +3,41 @@ package com.spt.development.logging.spring;
 import ch.qos.logback.classic.Level;
 import com.spt.development.cid.CorrelationId;
 import com.spt.development.logging.NoLogging;
+import com.spt.development.logging.spring.metrics.InvocationMetricsSink;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 import org.springframework.http.HttpStatus;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
-
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static com.spt.development.test.LogbackUtil.verifyLogging;
 import static org.hamcrest.CoreMatchers.containsString;
@@ -27,6 +48,11 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class RestControllerLoggerTest {
@@ -44,6 +70,11 @@ class RestControllerLoggerTest {
         CorrelationId.set(TestData.CORRELATION_ID);
     }
 
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = { true, false })
     void log_joinPointWithReturnValue_shouldReturnJoinPointResult(boolean includeCorrelationIdInLogs) throws Throwable {
@@ -461,6 +492,640 @@ class RestControllerLoggerTest {
         );
     }
 
+    @Test
+    void log_proceedThrowsUnexpectedExceptionAboveRateLimit_shouldNotLogException() {
+        final RestControllerLogger target = createLogger(false);
+
+        target.setExceptionLogRateLimit(1, Duration.ofMinutes(1));
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    for (int i = 0; i < 3; i++) {
+                        try {
+                            target.log(createJoinPoint(new IllegalStateException("test")));
+                        } catch (Throwable t) {
+                            // Expected exception
+                        }
+                    }
+                    return null;
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(4));
+
+                    assertThat(logs.get(1).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(1).getFormattedMessage(), containsString("TestTarget.test threw exception:"));
+
+                    assertThat(logs.get(2).getLevel(), is(Level.INFO));
+                    assertThat(logs.get(3).getLevel(), is(Level.INFO));
+                }
+        );
+        target.close();
+    }
+
+    @Test
+    void log_proceedThrowsUnexpectedExceptionAboveRateLimit_shouldLogSummaryWithCorrelationIdWhenClosed() {
+        final RestControllerLogger target = createLogger(true);
+
+        target.setExceptionLogRateLimit(1, Duration.ofMinutes(1));
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    for (int i = 0; i < 3; i++) {
+                        try {
+                            target.log(createJoinPoint(new IllegalStateException("test")));
+                        } catch (Throwable t) {
+                            // Expected exception
+                        }
+                    }
+                    // The summary is logged with the correlation ID of the suppressed calls, not the closing thread's
+                    CorrelationId.set("closing-thread");
+
+                    target.close();
+
+                    return null;
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(5));
+
+                    assertThat(logs.get(4).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(4).getFormattedMessage(), startsWith(
+                        "[" + TestData.CORRELATION_ID + "] TestTarget.test - suppressed 2 x java.lang.IllegalStateException over "
+                    ));
+                }
+        );
+    }
+
+    @Test
+    void log_nestedProceedThrowsUnexpectedExceptionAboveRateLimit_shouldNotCountExceptionLoggedEarlier() {
+        final RestControllerLogger target = createLogger(false);
+
+        target.setExceptionLogRateLimit(1, Duration.ofMinutes(1));
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final ProceedingJoinPoint inner = createJoinPoint(new IllegalStateException("test"));
+                        final ProceedingJoinPoint outer = createJoinPoint(new IllegalStateException("outer"));
+
+                        Mockito.doAnswer(invocation -> target.log(inner)).when(outer).proceed();
+
+                        return target.log(outer);
+                    } catch (Throwable t) {
+                        // Expected exception
+                        return null;
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(4));
+
+                    assertThat(logs.get(2).getThrowableProxy(), is(notNullValue()));
+                    assertThat(logs.get(3).getFormattedMessage(), is(
+                        "TestTarget.test threw exception: java.lang.IllegalStateException - see earlier log from TestTarget.test"
+                    ));
+                }
+        );
+        target.close();
+    }
+
+    @Test
+    void log_nestedProceedThrowsUnexpectedException_shouldLogExceptionDetailsOnce() {
+        final RestControllerLogger target = createLogger(false);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final ProceedingJoinPoint inner = createJoinPoint(new IllegalStateException("test"));
+                        final ProceedingJoinPoint outer = createJoinPoint(new IllegalStateException("outer"));
+
+                        Mockito.doAnswer(invocation -> target.log(inner)).when(outer).proceed();
+
+                        return target.log(outer);
+                    } catch (Throwable t) {
+                        // Expected exception
+                        return null;
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(4));
+
+                    assertThat(logs.get(2).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(2).getFormattedMessage(), containsString("TestTarget.test threw exception:"));
+                    assertThat(logs.get(2).getThrowableProxy(), is(notNullValue()));
+
+                    assertThat(logs.get(3).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(3).getFormattedMessage(), is(
+                        "TestTarget.test threw exception: java.lang.IllegalStateException - see earlier log from TestTarget.test"
+                    ));
+                    assertThat(logs.get(3).getThrowableProxy(), is(nullValue()));
+                }
+        );
+    }
+
+    @Test
+    void log_proceedThrowsUnexpectedExceptionWithStructuredLogging_shouldAddOutcomeAsKeyValuePairs() {
+        final RestControllerLogger target = createLogger(true);
+
+        target.setStructuredLogging(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint(new IllegalStateException("test")));
+                    } catch (Throwable t) {
+                        // Expected exception
+                        return null;
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(2));
+
+                    assertThat(logs.get(1).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(1).getFormattedMessage(), is("TestTarget.test threw exception: "));
+                    assertThat(logs.get(1).getThrowableProxy().getClassName(), is("java.lang.IllegalStateException"));
+
+                    final Map<String, Object> keyValues = logs.get(1).getKeyValuePairs().stream()
+                        .collect(Collectors.toMap(kvp -> kvp.key, kvp -> kvp.value));
+
+                    assertThat(keyValues.get("correlationId"), is(TestData.CORRELATION_ID));
+                    assertThat(keyValues.get("class"), is(TestTarget.class.getName()));
+                    assertThat(keyValues.get("method"), is(TestData.METHOD_STR_RETURN));
+                    assertThat(keyValues.get("outcome"), is("FAILURE"));
+                    assertThat(keyValues.get("exception"), is("java.lang.IllegalStateException"));
+                }
+        );
+    }
+
+    @Test
+    void log_proceedThrowsUnexpectedExceptionWithSummaryLogging_shouldLogSingleStatementWithArguments() {
+        final RestControllerLogger target = createLogger(false);
+
+        target.setSummaryLogging(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint(new IllegalStateException("test")));
+                    } catch (Throwable t) {
+                        // Expected exception
+                        return null;
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(1));
+
+                    assertThat(logs.get(0).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(0).getFormattedMessage(), is("TestTarget.test('TestArg', ******) threw exception: "));
+                    assertThat(logs.get(0).getThrowableProxy().getClassName(), is("java.lang.IllegalStateException"));
+                }
+        );
+    }
+
+    @Test
+    void log_proceedThrowsHttpClientErrorExceptionWithSummaryLogging_shouldLogSingleStatementWithArguments() {
+        final RestControllerLogger target = createLogger(false);
+
+        target.setSummaryLogging(true);
+        target.setStructuredLogging(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint(new HttpClientErrorException(HttpStatus.NOT_FOUND)));
+                    } catch (Throwable t) {
+                        // Expected exception
+                        return null;
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(1));
+
+                    assertThat(logs.get(0).getLevel(), is(Level.INFO));
+                    assertThat(
+                        logs.get(0).getFormattedMessage(),
+                        is("TestTarget.test('TestArg', ******) threw exception: org.springframework.web.client.HttpClientErrorException")
+                    );
+
+                    final Map<String, Object> keyValues = logs.get(0).getKeyValuePairs().stream()
+                        .collect(Collectors.toMap(kvp -> kvp.key, kvp -> kvp.value));
+
+                    assertThat(logs.get(0).getThrowableProxy().getClassName(), is(HttpClientErrorException.class.getName()));
+                    assertThat(keyValues.get("arguments"), is("'TestArg', ******"));
+                    assertThat(keyValues.get("outcome"), is("FAILURE"));
+                }
+        );
+    }
+
+    @Test
+    void log_proceedThrowsExceptionMappedToClientErrorSeries_shouldLogExceptionAsInfo() {
+        final RestControllerLogger target = createLogger(false);
+
+        target.mapExceptionToStatusSeries(RuntimeException.class, HttpStatus.Series.SERVER_ERROR);
+        target.mapExceptionToStatusSeries(IllegalArgumentException.class, HttpStatus.Series.CLIENT_ERROR);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint(new NumberFormatException("test")));
+                    } catch (Throwable t) {
+                        // Expected exception
+                        return null;
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(3));
+
+                    assertThat(logs.get(1).getLevel(), is(Level.INFO));
+                    assertThat(logs.get(1).getFormattedMessage(), is("TestTarget.test threw exception: java.lang.NumberFormatException"));
+                }
+        );
+    }
+
+    @Test
+    void log_proceedThrowsAnnotatedExceptionMappedToServerErrorSeries_shouldLogExceptionAsError() {
+        final RestControllerLogger target = createLogger(false);
+
+        target.mapExceptionToStatusSeries(DuplicateUserException.class, HttpStatus.Series.SERVER_ERROR);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint(new DuplicateUserException("Test", new Exception())));
+                    } catch (Throwable t) {
+                        // Expected exception
+                        return null;
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(2));
+
+                    assertThat(logs.get(1).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(1).getFormattedMessage(), containsString("TestTarget.test threw exception:"));
+                }
+        );
+    }
+
+    @Test
+    void log_proceedThrowsHttpServerErrorExceptionMappedToClientErrorSeries_shouldLogExceptionAsInfo() {
+        final RestControllerLogger target = createLogger(false);
+
+        target.mapExceptionToStatusSeries(HttpServerErrorException.class, HttpStatus.Series.CLIENT_ERROR);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR)));
+                    } catch (Throwable t) {
+                        // Expected exception
+                        return null;
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(3));
+
+                    assertThat(logs.get(1).getLevel(), is(Level.INFO));
+                    assertThat(
+                        logs.get(1).getFormattedMessage(),
+                        is("TestTarget.test threw exception: org.springframework.web.client.HttpServerErrorException")
+                    );
+                }
+        );
+    }
+
+    @Test
+    void log_proceedThrowsHttpClientErrorExceptionSubclassMappedToServerErrorSeries_shouldLogExceptionAsError() {
+        final RestControllerLogger target = createLogger(false);
+
+        target.mapExceptionToStatusSeries(HttpClientErrorException.TooManyRequests.class, HttpStatus.Series.SERVER_ERROR);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint(
+                            HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", null, null, null)
+                        ));
+                    } catch (Throwable t) {
+                        // Expected exception
+                        return null;
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs, is(notNullValue()));
+                    assertThat(logs.size(), is(2));
+
+                    assertThat(logs.get(1).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(1).getFormattedMessage(), is("TestTarget.test threw exception: "));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithIncompleteFuture_shouldNotLogCompletion() {
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return createLogger(false).log(createAsyncJoinPoint(new CompletableFuture<>()));
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> assertThat(logs.size(), is(1))
+        );
+    }
+
+    @Test
+    void log_joinPointWithFuture_shouldLogCompletionWhenFutureCompletes() {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final Object result = createLogger(false).log(createAsyncJoinPoint(future));
+
+                        future.complete(TestData.RESULT);
+
+                        return result;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("TestTarget.test Returned: Success! in "));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithFutureCompletedExceptionally_shouldLogExceptionAsError() {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final Object result = createLogger(false).log(createAsyncJoinPoint(future));
+
+                        future.completeExceptionally(new IllegalStateException("test"));
+
+                        return result;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+
+                    assertThat(logs.get(1).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(1).getFormattedMessage(), containsString("TestTarget.test threw exception:"));
+                    assertThat(logs.get(1).getThrowableProxy().getClassName(), is("java.lang.IllegalStateException"));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithCallable_shouldLogCompletionWhenCallableIsCalled() {
+        final WebAsyncManager asyncManager = startAsyncRequest();
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final Callable<?> result = (Callable<?>) createLogger(false).log(createAsyncJoinPoint((Callable<String>) () -> TestData.RESULT));
+
+                        asyncManager.startCallableProcessing(result);
+
+                        return asyncManager.getConcurrentResult();
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("TestTarget.test Returned: Success! in "));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithCallableThrowingException_shouldLogExceptionAsError() {
+        final WebAsyncManager asyncManager = startAsyncRequest();
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final Callable<?> result = (Callable<?>) createLogger(false).log(createAsyncJoinPoint((Callable<String>) () -> {
+                            throw new IllegalStateException("test");
+                        }));
+
+                        asyncManager.startCallableProcessing(result);
+
+                        return asyncManager.getConcurrentResult();
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getLevel(), is(Level.ERROR));
+                    assertThat(logs.get(1).getThrowableProxy().getClassName(), is("java.lang.IllegalStateException"));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithCallableOutsideOfRequest_shouldLogCompletionWhenMethodReturns() {
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return createLogger(false).log(createAsyncJoinPoint((Callable<String>) () -> TestData.RESULT));
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> assertThat(logs.size(), is(2))
+        );
+    }
+
+    @Test
+    void log_joinPointWithDeferredResult_shouldLogCompletionWhenDeferredResultCompletes() {
+        final WebAsyncManager asyncManager = startAsyncRequest();
+        final DeferredResult<String> deferredResult = new DeferredResult<>();
+        final AtomicBoolean controllerCallbackCalled = new AtomicBoolean();
+
+        deferredResult.onCompletion(() -> controllerCallbackCalled.set(true));
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final Object result = createLogger(false).log(createAsyncJoinPoint(deferredResult));
+
+                        asyncManager.startDeferredResultProcessing(deferredResult);
+                        deferredResult.setResult(TestData.RESULT);
+                        completeAsyncRequest();
+
+                        return result;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("TestTarget.test Returned: Success! in "));
+                }
+        );
+        assertThat(controllerCallbackCalled.get(), is(true));
+    }
+
+    @Test
+    void log_joinPointWithDeferredResultCompletionCallbackAddedLater_shouldLogCompletionAndCallCallback() {
+        final WebAsyncManager asyncManager = startAsyncRequest();
+        final DeferredResult<String> deferredResult = new DeferredResult<>();
+        final AtomicBoolean controllerCallbackCalled = new AtomicBoolean();
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final Object result = createLogger(false).log(createAsyncJoinPoint(deferredResult));
+
+                        deferredResult.onCompletion(() -> controllerCallbackCalled.set(true));
+
+                        asyncManager.startDeferredResultProcessing(deferredResult);
+                        deferredResult.setResult(TestData.RESULT);
+                        completeAsyncRequest();
+
+                        return result;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("TestTarget.test Returned: Success! in "));
+                }
+        );
+        assertThat(controllerCallbackCalled.get(), is(true));
+    }
+
+    @Test
+    void log_joinPointWithDeferredResultCompletedWithoutResult_shouldLogCancellation() {
+        final WebAsyncManager asyncManager = startAsyncRequest();
+        final DeferredResult<String> deferredResult = new DeferredResult<>();
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final Object result = createLogger(false).log(createAsyncJoinPoint(deferredResult));
+
+                        asyncManager.startDeferredResultProcessing(deferredResult);
+                        completeAsyncRequest();
+
+                        return result;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("TestTarget.test - cancelled after "));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithStreamingResponseBody_shouldLogCompletionWhenBodyIsWritten() {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final ResponseEntity<?> result = (ResponseEntity<?>) createLogger(false).log(createAsyncJoinPoint(
+                            ResponseEntity.ok((StreamingResponseBody) out -> out.write(TestData.RESULT.getBytes(StandardCharsets.UTF_8)))
+                        ));
+
+                        ((StreamingResponseBody) result.getBody()).writeTo(outputStream);
+
+                        return result;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("TestTarget.test Returned: null in "));
+                }
+        );
+        assertThat(outputStream.toString(StandardCharsets.UTF_8), is(TestData.RESULT));
+    }
+
+    private ProceedingJoinPoint createAsyncJoinPoint(Object result) throws Throwable {
+        return createJoinPoint(TestTarget.class, TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class), result, null);
+    }
+
+    private static WebAsyncManager startAsyncRequest() {
+        // Spring MVC creates the async manager of each request, and exposes the request, before calling the controller
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+
+        request.setAsyncSupported(true);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        asyncManager.setTaskExecutor(new TaskExecutorAdapter(Runnable::run));
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+
+        return asyncManager;
+    }
+
+    private static void completeAsyncRequest() {
+        final MockHttpServletRequest request = (MockHttpServletRequest) (
+            (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()
+        ).getRequest();
+
+        // Notifies the listeners registered by Spring MVC that the asynchronous request has completed
+        request.getAsyncContext().complete();
+    }
+
+    @Test
+    void log_proceedThrowsExceptionWithMetricsSink_shouldReportFailureToSink() throws Throwable {
+        final Exception exception = new Exception("test");
+        final InvocationMetricsSink metricsSink = Mockito.mock(InvocationMetricsSink.class);
+        final ProceedingJoinPoint joinPoint = createJoinPoint(exception);
+
+        assertThrows(Exception.class, () -> new RestControllerLogger(true, metricsSink).log(joinPoint));
+
+        verify(metricsSink).onFailure(any(), anyLong(), eq(exception));
+        verify(metricsSink, never()).onSuccess(any(), anyLong());
+    }
+
     private ProceedingJoinPoint createJoinPoint() throws Throwable {
         return createJoinPoint(TestTarget.class, TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class), TestData.RESULT, null);
     }
@@ -1,27 +1,54 @@
 package com.spt.development.logging.spring;
 
 import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
 import com.spt.development.cid.CorrelationId;
 import com.spt.development.logging.NoLogging;
+import com.spt.development.logging.SlowInvocationThreshold;
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import com.spt.development.logging.spring.invocation.LoggingSwitchboard;
+import com.spt.development.logging.spring.metrics.InvocationMetricsSink;
+import com.spt.development.logging.spring.metrics.LatencySnapshot;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import static com.spt.development.test.LogbackUtil.verifyLogging;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ServiceLoggerTest {
@@ -30,6 +57,13 @@ class ServiceLoggerTest {
         static final String RESULT = "Success!";
         static final String METHOD_STR_RETURN = "test";
         static final String METHOD_VOID_RETURN = "testVoid";
+        static final String METHOD_SLOW = "testSlow";
+        static final String METHOD_MONO = "testMono";
+        static final String METHOD_FLUX = "testFlux";
+        static final long SLOW_INVOCATION_MILLIS = 5;
+        static final int SAMPLED_INVOCATIONS = 200;
+        static final int ASYNC_BUFFER_CAPACITY = 16;
+        static final long SUBSCRIPTION_DELAY_MILLIS = 100;
         static final String ARG1 = "TestArg";
         static final String ARG2 = "TestArg2";
     }
@@ -165,6 +199,552 @@ class ServiceLoggerTest {
         );
     }
 
+    @Test
+    void log_joinPointWithVoidReturnValue_shouldIncludeElapsedTimeInCompleteLog() {
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return createLogger(true).log(
+                            createJoinPoint(TestTarget.class, TestTarget.class.getMethod(TestData.METHOD_VOID_RETURN, String.class, String.class), null)
+                        );
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getFormattedMessage(), matchesPattern(".*TestTarget\\.testVoid - complete in \\d+\\.\\d{3}ms"));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithReturnValue_shouldDeferFormattingArgumentsUntilLogged() {
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return createLogger(false).log(createJoinPoint());
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+
+                    assertThat(logs.get(0).getArgumentArray()[1], is(instanceOf(FormattedArguments.class)));
+                    assertThat(logs.get(1).getArgumentArray()[2], is(instanceOf(FormattedElapsed.class)));
+                    assertThat(logs.get(0).getFormattedMessage(), is("TestTarget.test('TestArg', ******)"));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPoint_shouldRecordLatencyOfMethod() throws Throwable {
+        final Method method = TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class);
+        final LatencySnapshot before = InvocationDescriptor.latencySnapshots().get(method);
+        final long count = before != null ? before.getCount() : 0L;
+
+        createLogger(true).log(createJoinPoint(TestTarget.class, method, TestData.RESULT));
+
+        assertThat(InvocationDescriptor.latencySnapshots().get(method).getCount(), is(count + 1));
+    }
+
+    @Test
+    void log_joinPointWithMetricsSink_shouldReportSuccessToSink() throws Throwable {
+        final Method method = TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class);
+        final InvocationMetricsSink metricsSink = Mockito.mock(InvocationMetricsSink.class);
+
+        new ServiceLogger(true, metricsSink).log(createJoinPoint(TestTarget.class, method, TestData.RESULT));
+
+        verify(metricsSink).onStart(InvocationDescriptor.of(method));
+        verify(metricsSink).onSuccess(eq(InvocationDescriptor.of(method)), anyLong());
+        verify(metricsSink, never()).onFailure(any(), anyLong(), any());
+    }
+
+    @Test
+    void log_slowJoinPoint_shouldLogSlowInvocationAtWarn() {
+        final ServiceLogger target = createLogger(false);
+
+        target.setSlowInvocationThreshold(Duration.ofMillis(1));
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createSlowJoinPoint(TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class)));
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(3));
+
+                    assertThat(logs.get(2).getLevel(), is(Level.WARN));
+                    assertThat(logs.get(2).getFormattedMessage(), startsWith("TestTarget.test('TestArg', ******) - slow invocation, complete in "));
+                    assertThat(logs.get(2).getFormattedMessage(), containsString("exceeding threshold of 1.000ms"));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithinSlowInvocationThreshold_shouldNotLogSlowInvocation() {
+        final ServiceLogger target = createLogger(false);
+
+        target.setSlowInvocationThreshold(Duration.ofMinutes(1));
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createSlowJoinPoint(TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class)));
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> assertThat(logs.size(), is(2))
+        );
+    }
+
+    @Test
+    void log_slowJoinPointWithThresholdOverriddenByAnnotation_shouldLogSlowInvocationAtWarn() {
+        final ServiceLogger target = createLogger(false);
+
+        target.setSlowInvocationThreshold(Duration.ofMinutes(1));
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createSlowJoinPoint(TestTarget.class.getMethod(TestData.METHOD_SLOW, String.class)));
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(3));
+
+                    assertThat(logs.get(2).getLevel(), is(Level.WARN));
+                    assertThat(logs.get(2).getFormattedMessage(), containsString("TestTarget.testSlow('TestArg') - slow invocation"));
+                }
+        );
+    }
+
+    @Test
+    void log_sampledJoinPoints_shouldLogStartAndEndOfSampledMethodsWithSampleRate() {
+        final ServiceLogger target = createLogger(false);
+
+        target.setSampleOneIn(2);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        for (int i = 0; i < TestData.SAMPLED_INVOCATIONS; i++) {
+                            target.log(createJoinPoint());
+                        }
+                        return null;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(greaterThan(0)));
+                    assertThat(logs.size(), is(lessThan(TestData.SAMPLED_INVOCATIONS * 2)));
+                    assertThat(logs.size() % 2, is(0));
+
+                    for (int i = 0; i < logs.size(); i += 2) {
+                        assertThat(logs.get(i).getFormattedMessage(), is("TestTarget.test('TestArg', ******) [sample rate 1/2]"));
+                        assertThat(logs.get(i + 1).getFormattedMessage(), startsWith("TestTarget.test Returned: Success! in "));
+                    }
+                    assertThat(
+                        logs.stream().map(l -> l.getFormattedMessage()).toList(),
+                        everyItem(containsString(" [sample rate 1/2]"))
+                    );
+                }
+        );
+    }
+
+    @Test
+    void setSampleRate_outOfRange_shouldThrowException() {
+        final ServiceLogger target = createLogger(false);
+
+        assertThrows(IllegalArgumentException.class, () -> target.setSampleRate(0.0));
+        assertThrows(IllegalArgumentException.class, () -> target.setSampleRate(1.5));
+        assertThrows(IllegalArgumentException.class, () -> target.setSampleOneIn(0));
+    }
+
+    @Test
+    void log_asyncLogging_shouldLogStartAndEndOfMethodOnBackgroundThread() {
+        final ServiceLogger target = createLogger(true);
+
+        target.setAsyncLogging(TestData.ASYNC_BUFFER_CAPACITY, AsyncLogOverflowPolicy.BLOCK);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint());
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    } finally {
+                        target.close();
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+
+                    assertThat(logs.get(0).getLevel(), is(Level.DEBUG));
+                    assertThat(logs.get(0).getFormattedMessage(), is("[" + TestData.CORRELATION_ID + "] TestTarget.test('TestArg', ******)"));
+                    assertThat(logs.get(0).getThreadName(), is("ServiceLogger-async"));
+                    assertThat(logs.get(0).getKeyValuePairs().get(0).key, is("invocationThread"));
+                    assertThat(logs.get(0).getKeyValuePairs().get(0).value, is(Thread.currentThread().getName()));
+
+                    assertThat(logs.get(1).getLevel(), is(Level.TRACE));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("[" + TestData.CORRELATION_ID + "] TestTarget.test Returned: Success! in "));
+                }
+        );
+    }
+
+    @Test
+    void log_structuredLogging_shouldAddDetailsOfMethodAsKeyValuePairs() {
+        final ServiceLogger target = createLogger(true);
+
+        target.setStructuredLogging(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint());
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+
+                    assertThat(logs.get(0).getFormattedMessage(), is("TestTarget.test('TestArg', ******)"));
+                    assertThat(keyValues(logs.get(0)), is(Map.of(
+                        "correlationId", TestData.CORRELATION_ID,
+                        "class", TestTarget.class.getName(),
+                        "method", TestData.METHOD_STR_RETURN,
+                        "arguments", "'TestArg', ******"
+                    )));
+
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("TestTarget.test Returned: Success! in "));
+                    assertThat(keyValues(logs.get(1)).get("correlationId"), is(TestData.CORRELATION_ID));
+                    assertThat(keyValues(logs.get(1)).get("method"), is(TestData.METHOD_STR_RETURN));
+                    assertThat(keyValues(logs.get(1)).get("outcome"), is("SUCCESS"));
+                    assertThat(keyValues(logs.get(1)).get("durationMs"), is(instanceOf(Double.class)));
+                }
+        );
+    }
+
+    @Test
+    void log_summaryLogging_shouldLogSingleLineWithArgumentsAndResultWhenMethodCompletes() {
+        final ServiceLogger target = createLogger(true);
+
+        target.setSummaryLogging(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint());
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(1));
+
+                    assertThat(logs.get(0).getLevel(), is(Level.TRACE));
+                    assertThat(
+                        logs.get(0).getFormattedMessage(),
+                        startsWith("[" + TestData.CORRELATION_ID + "] TestTarget.test('TestArg', ******) Returned: Success! in ")
+                    );
+                }
+        );
+    }
+
+    @Test
+    void log_summaryLoggingVoidReturnType_shouldLogSingleLineWithArgumentsWhenMethodCompletes() {
+        final ServiceLogger target = createLogger(false);
+
+        target.setSummaryLogging(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(
+                            createJoinPoint(TestTarget.class, TestTarget.class.getMethod(TestData.METHOD_VOID_RETURN, String.class, String.class), null)
+                        );
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(1));
+
+                    assertThat(logs.get(0).getLevel(), is(Level.DEBUG));
+                    assertThat(logs.get(0).getFormattedMessage(), startsWith("TestTarget.testVoid('TestArg', ******) - complete in "));
+                }
+        );
+    }
+
+    @Test
+    void log_summaryLoggingJoinPointThrowsException_shouldLogSingleLineWithException() {
+        final ServiceLogger target = createLogger(false);
+
+        target.setSummaryLogging(true);
+        target.setStructuredLogging(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final ProceedingJoinPoint joinPoint = createJoinPoint();
+
+                        when(joinPoint.proceed()).thenThrow(new IllegalStateException("test"));
+
+                        return target.log(joinPoint);
+                    } catch (IllegalStateException e) {
+                        return null;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(1));
+
+                    assertThat(logs.get(0).getLevel(), is(Level.DEBUG));
+                    assertThat(
+                        logs.get(0).getFormattedMessage(),
+                        startsWith("TestTarget.test('TestArg', ******) - threw java.lang.IllegalStateException in ")
+                    );
+                    assertThat(keyValues(logs.get(0)).get("outcome"), is("FAILURE"));
+                    assertThat(keyValues(logs.get(0)).get("arguments"), is("'TestArg', ******"));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithMonoReturnValue_shouldLogCompletionWhenMonoCompletes() {
+        final ServiceLogger target = createLogger(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        final Mono<?> result = (Mono<?>) target.log(createReactiveJoinPoint(
+                            TestData.METHOD_MONO, Mono.fromCallable(() -> TestData.RESULT).subscribeOn(Schedulers.single())
+                        ));
+
+                        CorrelationId.set(UUID.randomUUID().toString());
+
+                        return result.block();
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+
+                    assertThat(logs.get(0).getFormattedMessage(), is("[" + TestData.CORRELATION_ID + "] TestTarget.testMono('TestArg', ******)"));
+
+                    assertThat(logs.get(1).getThreadName(), startsWith("single-"));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("[" + TestData.CORRELATION_ID + "] TestTarget.testMono Returned: Success! in "));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithFluxReturnValue_shouldLogNumberOfElementsWhenFluxCompletes() {
+        final ServiceLogger target = createLogger(false);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return ((Flux<?>) target.log(createReactiveJoinPoint(TestData.METHOD_FLUX, Flux.just(1, 2, 3)))).collectList().block();
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getLevel(), is(Level.DEBUG));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("TestTarget.testFlux - complete, emitted 3 elements in "));
+                }
+        );
+    }
+
+    @Test
+    void log_joinPointWithFluxReturnValueAndStructuredLogging_shouldReportNumberOfElements() {
+        final InvocationMetricsSink metricsSink = Mockito.mock(InvocationMetricsSink.class);
+        final ServiceLogger target = new ServiceLogger(false, metricsSink);
+
+        target.setStructuredLogging(true);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return ((Flux<?>) target.log(createReactiveJoinPoint(TestData.METHOD_FLUX, Flux.just(1, 2, 3)))).collectList().block();
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(keyValues(logs.get(1)).get("elements"), is(3L));
+                    assertThat(keyValues(logs.get(1)).get("outcome"), is("SUCCESS"));
+                }
+        );
+        verify(metricsSink).onElements(any(InvocationDescriptor.class), eq(3L));
+        verify(metricsSink).onSuccess(any(InvocationDescriptor.class), anyLong());
+    }
+
+    @Test
+    void log_joinPointWithMonoReturnValueNotSubscribed_shouldNotLogCompletion() {
+        final ServiceLogger target = createLogger(false);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createReactiveJoinPoint(TestData.METHOD_MONO, Mono.just(TestData.RESULT)));
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> assertThat(logs.size(), is(1))
+        );
+    }
+
+    @Test
+    void log_joinPointWithMonoReturnValueCancelled_shouldLogCancellation() {
+        final InvocationMetricsSink metricsSink = Mockito.mock(InvocationMetricsSink.class);
+        final ServiceLogger target = new ServiceLogger(false, metricsSink);
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        ((Mono<?>) target.log(createReactiveJoinPoint(TestData.METHOD_MONO, Mono.never()))).subscribe().dispose();
+                        return null;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> {
+                    assertThat(logs.size(), is(2));
+                    assertThat(logs.get(1).getFormattedMessage(), startsWith("TestTarget.testMono - cancelled after "));
+                }
+        );
+        verify(metricsSink).onCancel(any(InvocationDescriptor.class), anyLong());
+    }
+
+    @Test
+    void log_joinPointWithMonoReturnValueSubscribedLate_shouldTimeFromSubscription() throws Throwable {
+        final InvocationMetricsSink metricsSink = Mockito.mock(InvocationMetricsSink.class);
+        final ArgumentCaptor<Long> elapsedNanos = ArgumentCaptor.forClass(Long.class);
+        final Mono<?> result = (Mono<?>) new ServiceLogger(false, metricsSink).log(
+            createReactiveJoinPoint(TestData.METHOD_MONO, Mono.just(TestData.RESULT))
+        );
+
+        Thread.sleep(TestData.SUBSCRIPTION_DELAY_MILLIS);
+
+        result.repeat(1).blockLast();
+
+        verify(metricsSink, times(2)).onSuccess(any(InvocationDescriptor.class), elapsedNanos.capture());
+
+        for (long elapsed : elapsedNanos.getAllValues()) {
+            assertThat(elapsed, is(lessThan(TimeUnit.MILLISECONDS.toNanos(TestData.SUBSCRIPTION_DELAY_MILLIS))));
+        }
+    }
+
+    @Test
+    void log_joinPointWithMonoReturnValueError_shouldReportFailureToSink() throws Throwable {
+        final InvocationMetricsSink metricsSink = Mockito.mock(InvocationMetricsSink.class);
+        final IllegalStateException exception = new IllegalStateException("test");
+        final Mono<?> result = (Mono<?>) new ServiceLogger(false, metricsSink).log(
+            createReactiveJoinPoint(TestData.METHOD_MONO, Mono.error(exception))
+        );
+
+        verify(metricsSink, never()).onFailure(any(InvocationDescriptor.class), anyLong(), any(Throwable.class));
+
+        assertThrows(IllegalStateException.class, result::block);
+
+        verify(metricsSink).onFailure(any(InvocationDescriptor.class), anyLong(), eq(exception));
+        verify(metricsSink, never()).onSuccess(any(InvocationDescriptor.class), anyLong());
+    }
+
+    @Test
+    void log_methodSwitchedOff_shouldProceedWithoutLogging() throws Throwable {
+        final LoggingSwitchboard switchboard = new LoggingSwitchboard();
+        final ServiceLogger target = new ServiceLogger(false);
+
+        target.setSwitchboard(switchboard);
+        switchboard.disable(LoggingSwitchboard.Scope.aspect(ServiceLogger.class));
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        assertThat(target.log(createJoinPoint()), is(TestData.RESULT));
+                        return null;
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> assertThat(logs.size(), is(0))
+        );
+    }
+
+    @Test
+    void log_classSwitchedBackOn_shouldLogStartAndEndOfMethod() {
+        final LoggingSwitchboard switchboard = new LoggingSwitchboard();
+        final ServiceLogger target = new ServiceLogger(false);
+
+        target.setSwitchboard(switchboard);
+        switchboard.disable(LoggingSwitchboard.Scope.aspect(ServiceLogger.class));
+        switchboard.enable(LoggingSwitchboard.Scope.type(TestTarget.class));
+
+        verifyLogging(
+                TestTarget.class,
+                () -> {
+                    try {
+                        return target.log(createJoinPoint());
+                    } catch (Throwable t) {
+                        throw new RuntimeException(t);
+                    }
+                },
+                (logs) -> assertThat(logs.size(), is(2))
+        );
+    }
+
+    private ProceedingJoinPoint createReactiveJoinPoint(String methodName, Object result) throws Throwable {
+        return createJoinPoint(TestTarget.class, TestTarget.class.getMethod(methodName, String.class, String.class), result);
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream().collect(Collectors.toMap(kvp -> kvp.key, kvp -> kvp.value));
+    }
+
+    private ProceedingJoinPoint createSlowJoinPoint(Method method) throws Throwable {
+        final ProceedingJoinPoint joinPoint = createJoinPoint(TestTarget.class, method, TestData.RESULT);
+
+        when(joinPoint.proceed()).thenAnswer(invocation -> {
+            Thread.sleep(TestData.SLOW_INVOCATION_MILLIS);
+            return TestData.RESULT;
+        });
+        return joinPoint;
+    }
+
     private ProceedingJoinPoint createJoinPoint() throws Throwable {
         return createJoinPoint(TestTarget.class, TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class), TestData.RESULT);
     }
@@ -200,5 +780,18 @@ class ServiceLoggerTest {
 
         public void testVoid(String correlationId, @NoLogging String password) {
         }
+
+        @SlowInvocationThreshold(1)
+        public String testSlow(String correlationId) {
+            return TestData.RESULT;
+        }
+
+        public Mono<String> testMono(String correlationId, @NoLogging String password) {
+            return Mono.just(TestData.RESULT);
+        }
+
+        public Flux<String> testFlux(String correlationId, @NoLogging String password) {
+            return Flux.just(TestData.RESULT);
+        }
     }
 }
\ No newline at end of file
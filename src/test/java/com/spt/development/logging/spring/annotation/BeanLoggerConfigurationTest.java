@@ -5,6 +5,7 @@ import com.spt.development.logging.NoLogging;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
+import org.springframework.aop.PointcutAdvisor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,7 @@ import java.util.Collections;
 import static com.spt.development.test.LogbackUtil.verifyLogging;
 import static com.spt.development.test.LogbackUtil.verifyNoLogging;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -38,6 +40,12 @@ class BeanLoggerConfigurationTest {
     }
 
     @Autowired private TestTarget testTarget;
+    @Autowired private PointcutAdvisor beanLogger;
+
+    @Test
+    void beanLogger_injectedAsPointcutAdvisor_shouldUseBeanLoggingPointcut() {
+        assertThat(beanLogger.getPointcut(), is(instanceOf(BeanLoggingPointcut.class)));
+    }
 
     @Test
     void callMethod_onBeanLoggerEnabledBean_shouldLogStartAndEndOfMethod() {
@@ -0,0 +1,161 @@
+package com.spt.development.logging.spring.annotation;
+
+import com.spt.development.logging.NoLogging;
+import com.spt.development.logging.spring.BeanLogger;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+
+import static com.spt.development.logging.spring.LoggerUtil.LOGGING_DISABLED_POINTCUT_EXPRESSION;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class BeanLoggingPointcutTest {
+    private static final class TestData {
+        static final String METHOD = "test";
+    }
+
+    @Test
+    void packageTrie_packageInOrBelowAddedPackage_shouldContainPackage() {
+        final BeanLoggingPointcut.PackageTrie target = new BeanLoggingPointcut.PackageTrie();
+
+        target.add("com.example.orders");
+        target.add("com.example.users.api");
+
+        assertThat(target.contains("com.example.orders"), is(true));
+        assertThat(target.contains("com.example.orders.internal"), is(true));
+        assertThat(target.contains("com.example.users.api"), is(true));
+        assertThat(target.contains("com.example.users"), is(false));
+        assertThat(target.contains("com.example.ordersv2"), is(false));
+        assertThat(target.contains("com.example"), is(false));
+        assertThat(target.contains(""), is(false));
+    }
+
+    @Test
+    void classFilter_classInSubPackageOfIncludedPackage_shouldMatch() {
+        final BeanLoggingPointcut target = new BeanLoggingPointcut(List.of(BeanLogger.class), Set.of());
+
+        assertThat(target.getClassFilter().matches(TestTarget.class), is(true));
+    }
+
+    @Test
+    void classFilter_classOutsideIncludedPackages_shouldNotMatch() {
+        final BeanLoggingPointcut target = new BeanLoggingPointcut(List.of(TestTarget.class), Set.of());
+
+        assertThat(target.getClassFilter().matches(String.class), is(false));
+    }
+
+    @Test
+    void classFilter_excludedClass_shouldNotMatch() {
+        final BeanLoggingPointcut target = new BeanLoggingPointcut(List.of(TestTarget.class), Set.of(TestTarget.class));
+
+        assertThat(target.getClassFilter().matches(TestTarget.class), is(false));
+        assertThat(target.getClassFilter().matches(TestTarget.Nested.class), is(false));
+    }
+
+    @Test
+    void classFilter_classAnnotatedWithNoLogging_shouldNotMatch() {
+        final BeanLoggingPointcut target = new BeanLoggingPointcut(List.of(TestTarget.class), Set.of());
+
+        assertThat(target.getClassFilter().matches(NotLoggedTestTarget.class), is(false));
+    }
+
+    @Test
+    void matches_publicMethod_shouldMatch() throws Exception {
+        final BeanLoggingPointcut target = new BeanLoggingPointcut(List.of(TestTarget.class), Set.of());
+
+        assertThat(target.matches(TestTarget.class.getMethod(TestData.METHOD), TestTarget.class), is(true));
+    }
+
+    @Test
+    void matches_nonPublicMethod_shouldMatch() throws Exception {
+        final BeanLoggingPointcut target = new BeanLoggingPointcut(List.of(TestTarget.class), Set.of());
+
+        assertThat(target.matches(TestTarget.class.getDeclaredMethod("notPublic"), TestTarget.class), is(true));
+    }
+
+    @Test
+    void matches_noLoggingMethod_shouldNotMatch() throws Exception {
+        final BeanLoggingPointcut target = new BeanLoggingPointcut(List.of(TestTarget.class), Set.of());
+
+        assertThat(target.matches(TestTarget.class.getMethod("notLogged"), TestTarget.class), is(false));
+    }
+
+    @Test
+    void matches_anyMethod_shouldMatchAsAspectJExpressionPreviouslyGeneratedByBeanLoggerConfiguration() {
+        // The expression only excluded top level classes, so another test class in the package is excluded
+        final BeanLoggingPointcut target = new BeanLoggingPointcut(List.of(TestTarget.class), Set.of(BeanLoggerConfigurationTest.class));
+        final AspectJExpressionPointcut expected = new AspectJExpressionPointcut();
+
+        expected.setExpression(
+            "(execution(* " + TestTarget.class.getPackageName() + "..*(..)))"
+                + " && !execution(* " + BeanLoggerConfigurationTest.class.getName() + "..*(..))"
+                + " && !(" + LOGGING_DISABLED_POINTCUT_EXPRESSION + ")"
+        );
+
+        final List<Class<?>> types = List.of(
+            TestTarget.class, TestTarget.Nested.class, TestSubTarget.class, BeanLoggerConfigurationTest.class, String.class
+        );
+
+        for (Class<?> type : types) {
+            for (Method method : ReflectionUtils.getAllDeclaredMethods(type)) {
+                assertThat(
+                    type.getSimpleName() + "." + method.getName(),
+                    target.getClassFilter().matches(type) && target.matches(method, type),
+                    is(expected.getClassFilter().matches(type) && expected.getMethodMatcher().matches(method, type))
+                );
+            }
+        }
+    }
+
+    @Test
+    void matches_methodInheritedFromClassOutsideIncludedPackages_shouldNotMatch() throws Exception {
+        final BeanLoggingPointcut target = new BeanLoggingPointcut(List.of(TestTarget.class), Set.of());
+
+        assertThat(target.matches(Object.class.getMethod("hashCode"), TestTarget.class), is(false));
+    }
+
+    public static class TestTarget {
+        public String test() {
+            return TestData.METHOD;
+        }
+
+        String notPublic() {
+            return TestData.METHOD;
+        }
+
+        protected String notPublicProtected() {
+            return TestData.METHOD;
+        }
+
+        private String notPublicPrivate() {
+            return notPublicProtected();
+        }
+
+        @NoLogging
+        public String notLogged() {
+            return TestData.METHOD;
+        }
+
+        public static class Nested {
+            public String nested() {
+                return TestData.METHOD;
+            }
+        }
+    }
+
+    public static class TestSubTarget extends TestTarget {
+        @Override
+        public String test() {
+            return TestData.METHOD;
+        }
+    }
+
+    @NoLogging
+    public static class NotLoggedTestTarget {
+    }
+}
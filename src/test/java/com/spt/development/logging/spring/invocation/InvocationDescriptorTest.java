@@ -0,0 +1,103 @@
+package com.spt.development.logging.spring.invocation;
+
+import com.spt.development.logging.NoLogging;
+import com.spt.development.logging.spring.metrics.LatencyHistogram;
+import com.spt.development.logging.spring.metrics.LatencySnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+
+class InvocationDescriptorTest {
+    private static final class TestData {
+        static final String METHOD_STR_RETURN = "test";
+        static final String METHOD_VOID_RETURN = "testVoid";
+        static final String METHOD_LATENCY = "testLatency";
+        static final String METHOD_SNAPSHOT = "testSnapshot";
+    }
+
+    @Test
+    void of_sameMethod_shouldReturnCachedDescriptor() throws Exception {
+        final InvocationDescriptor result = InvocationDescriptor.of(
+            TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class)
+        );
+
+        assertThat(result, is(sameInstance(InvocationDescriptor.of(
+            TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class)
+        ))));
+    }
+
+    @Test
+    void of_validMethod_shouldDescribeMethod() throws Exception {
+        final InvocationDescriptor result = InvocationDescriptor.of(
+            TestTarget.class.getMethod(TestData.METHOD_STR_RETURN, String.class, String.class)
+        );
+
+        assertThat(result.getLogger().getName(), is(TestTarget.class.getName()));
+        assertThat(result.getDisplayName(), is("TestTarget.test"));
+        assertThat(result.getParameterCount(), is(2));
+        assertThat(result.isParameterNotLogged(0), is(false));
+        assertThat(result.isParameterNotLogged(1), is(true));
+        assertThat(result.isVoidReturnType(), is(false));
+    }
+
+    @Test
+    void of_voidMethod_shouldDescribeVoidReturnType() throws Exception {
+        final InvocationDescriptor result = InvocationDescriptor.of(
+            TestTarget.class.getMethod(TestData.METHOD_VOID_RETURN, String.class, String.class)
+        );
+
+        assertThat(result.isVoidReturnType(), is(true));
+        assertThat(result.isParameterNotLogged(0), is(true));
+        assertThat(result.isParameterNotLogged(1), is(false));
+    }
+
+    @Test
+    void recordLatency_histogramNotRequested_shouldRecordLatency() throws Exception {
+        final InvocationDescriptor target = InvocationDescriptor.of(TestTarget.class.getMethod(TestData.METHOD_LATENCY));
+
+        target.recordLatency(TimeUnit.MILLISECONDS.toNanos(1));
+        target.recordLatency(TimeUnit.MILLISECONDS.toNanos(2));
+
+        final LatencyHistogram result = target.getLatencyHistogram();
+
+        assertThat(result, is(sameInstance(target.getLatencyHistogram())));
+        assertThat(result.snapshot().getCount(), is(2L));
+        assertThat(result.snapshot().getMax(), is(2_000L));
+    }
+
+    @Test
+    void latencySnapshots_latencyRecorded_shouldIncludeSnapshotOfMethod() throws Exception {
+        final Method method = TestTarget.class.getMethod(TestData.METHOD_SNAPSHOT);
+
+        assertThat(InvocationDescriptor.latencySnapshots(), not(hasKey(method)));
+
+        InvocationDescriptor.of(method).recordLatency(TimeUnit.MILLISECONDS.toNanos(3));
+
+        final LatencySnapshot result = InvocationDescriptor.latencySnapshots().get(method);
+
+        assertThat(result.getCount(), is(1L));
+        assertThat(result.getMax(), is(3_000L));
+    }
+
+    private static final class TestTarget {
+        public String test(String correlationId, @NoLogging String password) {
+            return correlationId;
+        }
+
+        public void testVoid(@NoLogging String password, String correlationId) {
+        }
+
+        public void testLatency() {
+        }
+
+        public void testSnapshot() {
+        }
+    }
+}
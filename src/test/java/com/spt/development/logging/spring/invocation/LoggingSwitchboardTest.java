@@ -0,0 +1,134 @@
+package com.spt.development.logging.spring.invocation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LoggingSwitchboardTest {
+    private static final class TestData {
+        static final String PACKAGE = LoggingSwitchboardTest.class.getPackageName();
+        static final String PARENT_PACKAGE = PACKAGE.substring(0, PACKAGE.lastIndexOf('.'));
+    }
+
+    private InvocationDescriptor logged;
+    private InvocationDescriptor other;
+    private LoggingSwitchboard target;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        logged = InvocationDescriptor.of(method("logged"));
+        other = InvocationDescriptor.of(method("other"));
+        target = new LoggingSwitchboard();
+    }
+
+    private static Method method(String name) throws NoSuchMethodException {
+        return TestTarget.class.getMethod(name);
+    }
+
+    @Test
+    void isEnabled_noRules_shouldBeEnabled() {
+        assertThat(target.isEnabled(TestAspect.class, logged), is(true));
+    }
+
+    @Test
+    void isEnabled_aspectDisabled_shouldOnlyDisableAspectAndItsSubclasses() {
+        target.disable(LoggingSwitchboard.Scope.aspect(TestAspect.class));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(false));
+        assertThat(target.isEnabled(TestSubAspect.class, logged), is(false));
+        assertThat(target.isEnabled(OtherAspect.class, logged), is(true));
+    }
+
+    @Test
+    void isEnabled_packageDisabled_shouldDisablePackageAndSubPackagesOnly() {
+        target.disable(LoggingSwitchboard.Scope.packagePrefix(TestData.PARENT_PACKAGE));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(false));
+
+        target.clearAll();
+        target.disable(LoggingSwitchboard.Scope.packagePrefix(TestData.PACKAGE.substring(0, TestData.PACKAGE.length() - 1)));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(true));
+    }
+
+    @Test
+    void isEnabled_moreSpecificRule_shouldTakePrecedence() throws Exception {
+        target.disable(LoggingSwitchboard.Scope.aspect(TestAspect.class));
+        target.enable(LoggingSwitchboard.Scope.packagePrefix(TestData.PARENT_PACKAGE));
+        target.disable(LoggingSwitchboard.Scope.packagePrefix(TestData.PACKAGE));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(false));
+
+        target.enable(LoggingSwitchboard.Scope.type(TestTarget.class));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(true));
+
+        target.disable(LoggingSwitchboard.Scope.method(method("logged")));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(false));
+        assertThat(target.isEnabled(TestAspect.class, other), is(true));
+    }
+
+    @Test
+    void isEnabled_ruleCleared_shouldApplyLessSpecificRule() {
+        target.disable(LoggingSwitchboard.Scope.aspect(TestAspect.class));
+        target.enable(LoggingSwitchboard.Scope.type(TestTarget.class));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(true));
+
+        target.clear(LoggingSwitchboard.Scope.type(TestTarget.class));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(false));
+
+        target.clearAll();
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(true));
+    }
+
+    @Test
+    void isEnabled_sameDescriptorDifferentSwitchboards_shouldUseRulesOfEachSwitchboard() {
+        final LoggingSwitchboard otherSwitchboard = new LoggingSwitchboard();
+
+        target.disable(LoggingSwitchboard.Scope.type(TestTarget.class));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(false));
+        assertThat(otherSwitchboard.isEnabled(TestAspect.class, logged), is(true));
+        assertThat(target.isEnabled(TestAspect.class, logged), is(false));
+    }
+
+    @Test
+    void isEnabled_sameDescriptorDifferentAspects_shouldCacheStateOfEachAspect() {
+        target.disable(LoggingSwitchboard.Scope.aspect(OtherAspect.class));
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(true));
+        assertThat(target.isEnabled(OtherAspect.class, logged), is(false));
+
+        final LoggingSwitchboard.SwitchState[] states = logged.switchStates;
+
+        assertThat(target.isEnabled(TestAspect.class, logged), is(true));
+        assertThat(target.isEnabled(OtherAspect.class, logged), is(false));
+        assertThat(logged.switchStates, is(sameInstance(states)));
+    }
+
+    private static class TestAspect {
+    }
+
+    private static final class TestSubAspect extends TestAspect {
+    }
+
+    private static final class OtherAspect {
+    }
+
+    public static final class TestTarget {
+        public void logged() {
+        }
+
+        public void other() {
+        }
+    }
+}
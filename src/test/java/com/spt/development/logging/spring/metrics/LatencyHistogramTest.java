@@ -0,0 +1,117 @@
+package com.spt.development.logging.spring.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class LatencyHistogramTest {
+    private static final class TestData {
+        static final int THREADS = 8;
+        static final int RECORDS_PER_THREAD = 100_000;
+    }
+
+    @Test
+    void snapshot_noLatenciesRecorded_shouldReturnEmptySnapshot() {
+        final LatencySnapshot result = new LatencyHistogram().snapshot();
+
+        assertThat(result.getCount(), is(0L));
+        assertThat(result.getP50(), is(0L));
+        assertThat(result.getMax(), is(0L));
+    }
+
+    @Test
+    void snapshot_latenciesRecorded_shouldReturnPercentilesWithinBucketPrecision() {
+        final LatencyHistogram target = new LatencyHistogram();
+
+        for (int i = 1; i <= 1000; i++) {
+            target.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        final LatencySnapshot result = target.snapshot();
+
+        assertThat(result.getCount(), is(1000L));
+        assertThat(result.getP50(), is(allOf(greaterThanOrEqualTo(500_000L), lessThanOrEqualTo(500_000L * 33 / 32))));
+        assertThat(result.getP90(), is(allOf(greaterThanOrEqualTo(900_000L), lessThanOrEqualTo(900_000L * 33 / 32))));
+        assertThat(result.getP99(), is(allOf(greaterThanOrEqualTo(990_000L), lessThanOrEqualTo(1_000_000L))));
+        assertThat(result.getP999(), is(allOf(greaterThanOrEqualTo(999_000L), lessThanOrEqualTo(1_000_000L))));
+        assertThat(result.getMax(), is(1_000_000L));
+    }
+
+    @Test
+    void snapshot_latencyLongerThanLargestBucket_shouldRecordExactMax() {
+        final LatencyHistogram target = new LatencyHistogram();
+
+        target.record(TimeUnit.DAYS.toNanos(1));
+
+        final LatencySnapshot result = target.snapshot();
+
+        assertThat(result.getP999(), is(TimeUnit.DAYS.toMicros(1)));
+        assertThat(result.getMax(), is(TimeUnit.DAYS.toMicros(1)));
+    }
+
+    @Test
+    void snapshot_latenciesRecordedConcurrently_shouldCountAllLatencies() throws Exception {
+        final LatencyHistogram target = new LatencyHistogram();
+        final ExecutorService executor = Executors.newFixedThreadPool(TestData.THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            for (int t = 0; t < TestData.THREADS; t++) {
+                final long elapsedNanos = TimeUnit.MICROSECONDS.toNanos(t);
+
+                executor.execute(() -> {
+                    awaitQuietly(start);
+
+                    for (int i = 0; i < TestData.RECORDS_PER_THREAD; i++) {
+                        target.record(elapsedNanos);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+
+        final LatencySnapshot result = target.snapshot();
+
+        assertThat(result.getCount(), is((long) TestData.THREADS * TestData.RECORDS_PER_THREAD));
+        assertThat(result.getMax(), is(TestData.THREADS - 1L));
+    }
+
+    @Test
+    void maxStripes_anyProcessorCount_shouldBeSmallestPowerOfTwoNotLessThanCount() {
+        assertThat(LatencyHistogram.maxStripes(1), is(1));
+        assertThat(LatencyHistogram.maxStripes(2), is(2));
+        assertThat(LatencyHistogram.maxStripes(3), is(4));
+        assertThat(LatencyHistogram.maxStripes(8), is(8));
+        assertThat(LatencyHistogram.maxStripes(12), is(16));
+    }
+
+    @Test
+    void bucketIndex_anyLatency_shouldBeContainedByBucket() {
+        for (long micros = 0; micros < 1L << 20; micros += 7) {
+            final int index = LatencyHistogram.bucketIndex(micros);
+
+            assertThat(micros <= LatencyHistogram.highestValueInBucket(index), is(true));
+            assertThat(index == 0 || micros > LatencyHistogram.highestValueInBucket(index - 1), is(true));
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
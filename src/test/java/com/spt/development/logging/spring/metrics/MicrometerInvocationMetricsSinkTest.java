@@ -0,0 +1,103 @@
+package com.spt.development.logging.spring.metrics;
+
+import com.spt.development.logging.spring.invocation.InvocationDescriptor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.spt.development.logging.spring.metrics.MicrometerInvocationMetricsSink.DEFAULT_ELEMENTS_SUMMARY_NAME;
+import static com.spt.development.logging.spring.metrics.MicrometerInvocationMetricsSink.DEFAULT_EXCEPTION_COUNTER_NAME;
+import static com.spt.development.logging.spring.metrics.MicrometerInvocationMetricsSink.DEFAULT_TIMER_NAME;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MicrometerInvocationMetricsSinkTest {
+    private static final class TestData {
+        static final String METHOD = "test";
+        static final long ELAPSED_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    }
+
+    @Test
+    void onSuccess_validDescriptor_shouldRecordSuccessTimer() throws Exception {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final MicrometerInvocationMetricsSink target = new MicrometerInvocationMetricsSink(registry);
+
+        target.onSuccess(createDescriptor(), TestData.ELAPSED_NANOS);
+        target.onSuccess(createDescriptor(), TestData.ELAPSED_NANOS);
+
+        assertThat(
+            registry.get(DEFAULT_TIMER_NAME)
+                .tags("class", TestTarget.class.getName(), "method", TestData.METHOD, "outcome", "SUCCESS", "exception", "none")
+                .timer()
+                .count(),
+            is(2L)
+        );
+    }
+
+    @Test
+    void onElements_validDescriptor_shouldRecordElementsSummary() throws Exception {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final MicrometerInvocationMetricsSink target = new MicrometerInvocationMetricsSink(registry);
+
+        target.onElements(createDescriptor(), 3L);
+        target.onElements(createDescriptor(), 5L);
+
+        final DistributionSummary result = registry.get(DEFAULT_ELEMENTS_SUMMARY_NAME)
+            .tags("class", TestTarget.class.getName(), "method", TestData.METHOD)
+            .summary();
+
+        assertThat(result.count(), is(2L));
+        assertThat(result.totalAmount(), is(8.0));
+    }
+
+    @Test
+    void onCancel_validDescriptor_shouldRecordCancelledTimer() throws Exception {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final MicrometerInvocationMetricsSink target = new MicrometerInvocationMetricsSink(registry);
+
+        target.onCancel(createDescriptor(), TestData.ELAPSED_NANOS);
+
+        assertThat(
+            registry.get(DEFAULT_TIMER_NAME)
+                .tags("method", TestData.METHOD, "outcome", "CANCELLED", "exception", "none")
+                .timer()
+                .count(),
+            is(1L)
+        );
+    }
+
+    @Test
+    void onFailure_validDescriptor_shouldRecordFailureTimerAndExceptionCounter() throws Exception {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final MicrometerInvocationMetricsSink target = new MicrometerInvocationMetricsSink(registry);
+
+        target.onFailure(createDescriptor(), TestData.ELAPSED_NANOS, new IllegalStateException());
+
+        assertThat(
+            registry.get(DEFAULT_TIMER_NAME)
+                .tags("method", TestData.METHOD, "outcome", "FAILURE", "exception", "IllegalStateException")
+                .timer()
+                .count(),
+            is(1L)
+        );
+        assertThat(
+            registry.get(DEFAULT_EXCEPTION_COUNTER_NAME)
+                .tags("method", TestData.METHOD, "exception", "IllegalStateException")
+                .counter()
+                .count(),
+            is(1.0)
+        );
+    }
+
+    private InvocationDescriptor createDescriptor() throws Exception {
+        return InvocationDescriptor.of(TestTarget.class.getMethod(TestData.METHOD));
+    }
+
+    private static final class TestTarget {
+        public void test() {
+        }
+    }
+}